@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compares throughput and tail latency of platform vs virtual request threads.
+#
+# Needs JAVA_HOME pointing at a JDK 21 and a database reachable through the
+# usual SPRING_DATASOURCE_URL / _USERNAME / _PASSWORD environment variables.
+# Tunables are passed through as -Dloadtest.* system properties, e.g.
+#   scripts/compare-thread-modes.sh -Dloadtest.concurrency=2000 -Dloadtest.durationSeconds=120
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+./mvnw -q -B -Pjava21 -DskipTests package
+JAR=$(ls target/ecommerce-*.jar | grep -v original | head -n 1)
+
+java -jar "$JAR" --server.port=8081 > target/platform-threads.log 2>&1 &
+PLATFORM_PID=$!
+java -jar "$JAR" --server.port=8082 --spring.profiles.active=virtual-threads > target/virtual-threads.log 2>&1 &
+VIRTUAL_PID=$!
+trap 'kill $PLATFORM_PID $VIRTUAL_PID 2>/dev/null || true' EXIT
+
+wait_for() {
+  for _ in $(seq 1 120); do
+    if curl -fs "http://localhost:$1/v3/api-docs" > /dev/null; then return 0; fi
+    sleep 1
+  done
+  echo "Instance on port $1 did not start" >&2
+  exit 1
+}
+wait_for 8081
+wait_for 8082
+
+USERNAME="loadtest_$(date +%s)"
+curl -fs -H 'Content-Type: application/json' \
+  -d "{\"username\":\"$USERNAME\",\"email\":\"$USERNAME@example.com\",\"password\":\"loadtest\"}" \
+  http://localhost:8081/api/auth/register > /dev/null
+TOKEN=$(curl -fs -H 'Content-Type: application/json' \
+  -d "{\"username\":\"$USERNAME\",\"password\":\"loadtest\"}" \
+  http://localhost:8081/api/auth/login | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+./mvnw -q -B -Ploadtest exec:java -Dloadtest.token="$TOKEN" "$@"
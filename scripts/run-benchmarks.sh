@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Runs the JMH suites under src/jmh/java and keeps one JSON result per commit
+# in target/jmh/, so runs from different commits can be compared side by side.
+#
+# An optional first argument is a JMH include regex, e.g.
+#   scripts/run-benchmarks.sh 'JwtServiceBenchmark|OrderTotalBenchmark'
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+INCLUDES="${1:-.*}"
+REVISION=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+mkdir -p target/jmh
+
+./mvnw -q -B -Pbenchmark test-compile exec:exec \
+  -Djmh.includes="$INCLUDES" \
+  -Djmh.result="$PWD/target/jmh/$REVISION.json"
+
+echo "Results written to target/jmh/$REVISION.json"
@@ -0,0 +1,118 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lmelectronica.ecommerce.shared.dtos.OrderItemDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+
+/**
+ * Encode and decode time for 10k-row pages in each negotiable format, with
+ * the same mapper setup the converters use. Payload sizes are printed at
+ * setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper mapper;
+
+    private PagedModel<ProductDTO> products;
+
+    private PagedModel<OrderItemDTO> items;
+
+    private byte[] encodedProducts;
+
+    private byte[] encodedItems;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .modulesToInstall(new BlackbirdModule())
+            .featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+        List<ProductDTO> productRows = new ArrayList<>(ROWS);
+        List<OrderItemDTO> itemRows = new ArrayList<>(ROWS);
+        for(int i = 1; i <= ROWS; i++){
+            productRows.add(new ProductDTO("Product " + i, 10.0 + i, 100 + i, new Date(), "Benchmark product " + i));
+            itemRows.add(new OrderItemDTO((long) i, 1 + i % 5, 10.0 + i, (1 + i % 5) * (10.0 + i), (long) (i % 500), "Product " + (i % 500)));
+        }
+        products = new PagedModel<>(new PageImpl<>(productRows, PageRequest.of(0, ROWS), ROWS * 3L));
+        items = new PagedModel<>(new PageImpl<>(itemRows, PageRequest.of(0, ROWS), ROWS * 3L));
+
+        encodedProducts = encodeProducts();
+        encodedItems = encodeItems();
+        System.out.printf("%n%s: products %d bytes, order items %d bytes%n", format, encodedProducts.length, encodedItems.length);
+    }
+
+    @Benchmark
+    public byte[] encodeProducts() throws IOException {
+        return mapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public PageBody<ProductDTO> decodeProducts() throws IOException {
+        return mapper.readValue(encodedProducts, new TypeReference<PageBody<ProductDTO>>() {});
+    }
+
+    @Benchmark
+    public byte[] encodeItems() throws IOException {
+        return mapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public PageBody<OrderItemDTO> decodeItems() throws IOException {
+        return mapper.readValue(encodedItems, new TypeReference<PageBody<OrderItemDTO>>() {});
+    }
+
+    // What a client reads the page envelope into.
+    public static class PageBody<T> {
+
+        public List<T> content;
+
+        public Map<String, Object> page;
+    }
+}
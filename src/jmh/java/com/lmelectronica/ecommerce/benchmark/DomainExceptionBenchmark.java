@@ -0,0 +1,118 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.lmelectronica.ecommerce.config.MapperConfig;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
+import com.lmelectronica.ecommerce.shared.exceptions.ErrorResponse;
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.handlers.GlobalExceptionHandler;
+
+/**
+ * Throughput of the expected failure paths end to end: the service or entity
+ * throws, the exception is caught and mapped to a 404 or 409 body. The
+ * "controller" variants mirror the controllers that catch and discard the
+ * exception without reading its message. The "eager" variants throw an
+ * exception that fills its stack trace and formats up front, as before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class DomainExceptionBenchmark {
+
+    private ProductService productService;
+
+    private Product product;
+
+    private GlobalExceptionHandler handler;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp(){
+        InMemoryRepository<Product> products = new InMemoryRepository<>(Product::getId);
+        productService = new ProductService(products.as(ProductRepository.class), new MapperConfig().modelMapper(), null, event -> {});
+
+        product = new Product();
+        product.setId(1L);
+        product.setName("Monitor");
+        product.setStock(3);
+
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/products/by-id");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound(){
+        try {
+            productService.getProductById(42L);
+            return null;
+        } catch (ResourceNotFoundException e) {
+            return handler.handleResourceNotFound(e, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> insufficientStock(){
+        try {
+            product.reduceStock(10);
+            return null;
+        } catch (BusinessRuleException e) {
+            return handler.handleBusinessRule(e, request);
+        }
+    }
+
+    @Benchmark
+    public boolean notFoundController(){
+        try {
+            productService.getProductById(42L);
+            return false;
+        } catch (ResourceNotFoundException e) {
+            return true;
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFoundEager(){
+        try {
+            throw new EagerNotFoundException("Product", 42L);
+        } catch (EagerNotFoundException e) {
+            return handler.handleResourceNotFound(new ResourceNotFoundException(e.getMessage()), request);
+        }
+    }
+
+    @Benchmark
+    public boolean notFoundEagerController(){
+        try {
+            throw new EagerNotFoundException("Product", 42L);
+        } catch (EagerNotFoundException e) {
+            return true;
+        }
+    }
+
+    private static final class EagerNotFoundException extends RuntimeException {
+
+        private EagerNotFoundException(String resource, Object id){
+            super(String.format("%s with id '%s' not found. ", resource, id));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
+import com.lmelectronica.ecommerce.shared.exceptions.ErrorResponse;
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.handlers.GlobalExceptionHandler;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp(){
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/products/by-id");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> resourceNotFound(){
+        return handler.handleResourceNotFound(new ResourceNotFoundException("Product", 42L), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> businessRule(){
+        return handler.handleBusinessRule(BusinessRuleException.duplicateResource("Product", "Name", "Monitor"), request);
+    }
+}
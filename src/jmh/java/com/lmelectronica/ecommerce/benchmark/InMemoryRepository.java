@@ -0,0 +1,77 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Map-backed stand-in for a Spring Data repository. Only the CRUD calls the
+ * benchmarked services make are supported, plus paged projection queries
+ * registered with {@link #withPagedView}; anything else fails loudly so a
+ * benchmark never silently measures a no-op.
+ */
+public final class InMemoryRepository<T> {
+
+    private final Map<Long, T> rows = new ConcurrentHashMap<>();
+
+    private final Function<T, Long> idOf;
+
+    private final Map<String, Function<T, ?>> pagedViews = new ConcurrentHashMap<>();
+
+    public InMemoryRepository(Function<T, Long> idOf){
+        this.idOf = idOf;
+    }
+
+    public void put(T entity){
+        rows.put(idOf.apply(entity), entity);
+    }
+
+    // Answers a Page<View> query method such as findListing(Pageable) by
+    // mapping each stored row, the way Spring Data fills an interface projection.
+    public InMemoryRepository<T> withPagedView(String methodName, Function<T, ?> view){
+        pagedViews.put(methodName, view);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R as(Class<R> repositoryType){
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findById" -> Optional.ofNullable(rows.get((Long) args[0]));
+                case "existsById" -> rows.containsKey((Long) args[0]);
+                case "save" -> {
+                    put((T) args[0]);
+                    yield args[0];
+                }
+                case "findAll" -> args != null && args.length == 1 && args[0] instanceof Pageable pageable
+                    ? page(pageable)
+                    : new ArrayList<>(rows.values());
+                case "count" -> (long) rows.size();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "InMemory" + repositoryType.getSimpleName();
+                default -> {
+                    Function<T, ?> view = pagedViews.get(method.getName());
+                    if(view == null || args == null || !(args[0] instanceof Pageable pageable)){
+                        throw new UnsupportedOperationException(method.toString());
+                    }
+                    yield page(pageable).map(view);
+                }
+            });
+    }
+
+    private Page<T> page(Pageable pageable){
+        List<T> all = new ArrayList<>(rows.values());
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+}
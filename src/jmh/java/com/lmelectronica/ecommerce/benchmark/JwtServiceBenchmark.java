@@ -0,0 +1,53 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lmelectronica.ecommerce.config.JwtService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+
+    private String token;
+
+    @Setup
+    public void setUp(){
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "SECRET_KEY", "benchmark_secret_key_that_is_long_enough_for_hmac256");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        token = jwtService.generateToken("benchmark_user");
+    }
+
+    @Benchmark
+    public String generateToken(){
+        return jwtService.generateToken("benchmark_user");
+    }
+
+    @Benchmark
+    public String extractUsername(){
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid(){
+        return jwtService.isTokenValid(token, "benchmark_user");
+    }
+}
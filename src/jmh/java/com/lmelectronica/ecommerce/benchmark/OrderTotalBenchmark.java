@@ -0,0 +1,55 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lmelectronica.ecommerce.order.Order;
+import com.lmelectronica.ecommerce.order.OrderRepository;
+import com.lmelectronica.ecommerce.order.OrderService;
+import com.lmelectronica.ecommerce.orderItem.OrderItem;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int itemCount;
+
+    private OrderService orderService;
+
+    @Setup
+    public void setUp(){
+        Order order = new Order();
+        order.setId(1L);
+        for(int i = 0; i < itemCount; i++){
+            OrderItem item = new OrderItem();
+            item.setQuantity(1 + i % 5);
+            item.setPrice(9.99 + i % 100);
+            item.setOrder(order);
+            order.getItems().add(item);
+        }
+        InMemoryRepository<Order> orders = new InMemoryRepository<>(Order::getId);
+        orders.put(order);
+        orderService = new OrderService(orders.as(OrderRepository.class), null, event -> {}, null);
+    }
+
+    @Benchmark
+    public double calculateOrderTotal(){
+        return orderService.calculateOrderTotal(1L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+
+/**
+ * Serialization time for a 100-item product page: the previous PageImpl JSON
+ * with the default mapper against the PagedModel envelope with Blackbird,
+ * raw and gzipped. Bytes on the wire for each form are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    private ObjectMapper defaultMapper;
+
+    private ObjectMapper tunedMapper;
+
+    private Page<ProductDTO> page;
+
+    private PagedModel<ProductDTO> pagedModel;
+
+    @Setup
+    public void setUp() throws IOException {
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        tunedMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+
+        List<ProductDTO> products = new ArrayList<>();
+        for(int i = 1; i <= 100; i++){
+            products.add(new ProductDTO("Product " + i, 10.0 + i, 100 + i, new Date(), "Benchmark product " + i));
+        }
+        page = new PageImpl<>(products, PageRequest.of(0, 100, Sort.by("id")), 1000);
+        pagedModel = new PagedModel<>(page);
+
+        System.out.printf("%nPageImpl json: %d bytes, PagedModel json: %d bytes, PagedModel gzip: %d bytes%n",
+            verbosePage().length, compactPage().length, compactPageGzip().length);
+    }
+
+    @Benchmark
+    public byte[] verbosePage() throws IOException {
+        return defaultMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] compactPage() throws IOException {
+        return tunedMapper.writeValueAsBytes(pagedModel);
+    }
+
+    @Benchmark
+    public byte[] compactPageDefaultMapper() throws IOException {
+        return defaultMapper.writeValueAsBytes(pagedModel);
+    }
+
+    @Benchmark
+    public byte[] compactPageGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try(GZIPOutputStream gzip = new GZIPOutputStream(bytes)){
+            tunedMapper.writeValue(gzip, pagedModel);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,76 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import com.lmelectronica.ecommerce.config.MapperConfig;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductListView;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ProductService productService;
+
+    @Setup
+    public void setUp(){
+        InMemoryRepository<Product> products = new InMemoryRepository<Product>(Product::getId)
+            .withPagedView("findListing", ProductServiceBenchmark::listView);
+        for(long id = 1; id <= 1000; id++){
+            Product product = new Product();
+            product.setId(id);
+            product.setName("Product " + id);
+            product.setPrice(10.0 + id);
+            product.setStock(100);
+            product.setDescription("Benchmark product " + id);
+            product.setCreatedAt(new Date());
+            products.put(product);
+        }
+        productService = new ProductService(products.as(ProductRepository.class), new MapperConfig().modelMapper(), null, event -> {});
+    }
+
+    private static ProductListView listView(Product product){
+        return new ProductListView() {
+            public String getName(){ return product.getName(); }
+            public Double getPrice(){ return product.getPrice(); }
+            public Integer getStock(){ return product.getStock(); }
+            public Date getCreatedAt(){ return product.getCreatedAt(); }
+            public String getDescription(){ return product.getDescription(); }
+        };
+    }
+
+    @Benchmark
+    public ProductDTO getProductById(){
+        return productService.getProductById(42L);
+    }
+
+    @Benchmark
+    public Page<ProductDTO> getAllProducts(){
+        return productService.getAllProducts(0, pageSize, Sort.unsorted());
+    }
+}
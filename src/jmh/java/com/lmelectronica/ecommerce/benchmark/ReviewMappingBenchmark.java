@@ -0,0 +1,70 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.review.Review;
+import com.lmelectronica.ecommerce.review.ReviewService;
+import com.lmelectronica.ecommerce.shared.dtos.ReviewDTO;
+import com.lmelectronica.ecommerce.user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class ReviewMappingBenchmark {
+
+    private ReviewService reviewService;
+
+    private List<Review> reviews;
+
+    @Setup
+    public void setUp(){
+        reviewService = new ReviewService(null, null, null);
+        Product product = new Product();
+        product.setId(1L);
+        reviews = new ArrayList<>();
+        for(long id = 1; id <= 100; id++){
+            User user = new User();
+            user.setId(id);
+            Review review = new Review();
+            review.setId(id);
+            review.setComment("Review comment number " + id);
+            review.setRating(1 + id % 5);
+            review.setCreatedAt(new Date());
+            review.setProduct(product);
+            review.setUser(user);
+            reviews.add(review);
+        }
+    }
+
+    @Benchmark
+    public ReviewDTO mapReviewDTO(){
+        return reviewService.mapReviewDTO(reviews.get(0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void mapReviewPage(Blackhole blackhole){
+        for(Review review : reviews){
+            blackhole.consume(reviewService.mapReviewDTO(review));
+        }
+    }
+}
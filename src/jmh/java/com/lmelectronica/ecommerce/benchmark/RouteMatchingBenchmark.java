@@ -0,0 +1,113 @@
+package com.lmelectronica.ecommerce.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable;
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable.Access;
+
+/**
+ * Per-request cost of deciding whether the JWT filter runs and which access
+ * rule applies, over a mix of real endpoint paths. "pattern" is the previous
+ * startsWith chain followed by the ordered matcher list the security chain
+ * walked; "table" is the compiled trie, looked up once and shared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class RouteMatchingBenchmark {
+
+    private static final String[] PATHS = {
+        "/products/all",
+        "/products/42",
+        "/product-detail/product/42",
+        "/reviews/product/42",
+        "/orders/by-user",
+        "/order-item/7",
+        "/favorites/by-user",
+        "/address/by-user",
+        "/categories/all",
+        "/api/auth/login",
+        "/api/auth/refresh",
+        "/actuator/prometheus",
+        "/swagger-ui/index.html",
+        "/v3/api-docs/swagger-config",
+        "/users/profile"
+    };
+
+    private RouteAuthorizationTable table;
+
+    private RequestMatcher permitted;
+
+    private List<Map.Entry<RequestMatcher, Access>> patterns;
+
+    private int next;
+
+    @Setup
+    public void setUp(){
+        table = new RouteAuthorizationTable();
+        permitted = table.matcher(Access.DOCUMENTATION, Access.PERMIT_ALL);
+
+        PathPatternRequestMatcher.Builder builder = PathPatternRequestMatcher.withDefaults();
+        patterns = RouteAuthorizationTable.defaultRoutes().entrySet().stream()
+            .map(route -> Map.entry((RequestMatcher) builder.matcher(route.getKey()), route.getValue()))
+            .toList();
+    }
+
+    @Benchmark
+    public void pattern(Blackhole blackhole){
+        MockHttpServletRequest request = nextRequest();
+        String path = request.getRequestURI();
+        blackhole.consume(path.startsWith("/swagger-ui")
+            || path.startsWith("/v3/api-docs")
+            || path.startsWith("/swagger-resources")
+            || path.startsWith("/webjars")
+            || path.startsWith("/api-docs"));
+
+        Access access = Access.AUTHENTICATED;
+        for(Map.Entry<RequestMatcher, Access> route : patterns){
+            if(route.getKey().matches(request)){
+                access = route.getValue();
+                break;
+            }
+        }
+        blackhole.consume(access);
+    }
+
+    @Benchmark
+    public void table(Blackhole blackhole){
+        MockHttpServletRequest request = nextRequest();
+        blackhole.consume(table.lookup(request) == Access.DOCUMENTATION);
+        blackhole.consume(permitted.matches(request));
+    }
+
+    // Fresh request per call, as in production; subtract this from both.
+    @Benchmark
+    public MockHttpServletRequest requestOnly(){
+        return nextRequest();
+    }
+
+    private MockHttpServletRequest nextRequest(){
+        String path = PATHS[next++ % PATHS.length];
+        return new MockHttpServletRequest("GET", path);
+    }
+}
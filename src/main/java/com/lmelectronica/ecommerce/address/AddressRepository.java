@@ -3,6 +3,8 @@ package com.lmelectronica.ecommerce.address;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.lmelectronica.ecommerce.user.User;
@@ -10,7 +12,8 @@ import com.lmelectronica.ecommerce.user.User;
 
 @Repository
 public interface AddressRepository extends JpaRepository<Address, Long> {
-    Optional<Address> findByUserUsername(String username);
+    @Query("SELECT a FROM Address a JOIN a.user u WHERE u.username = :username")
+    Optional<Address> findByUserUsername(@Param("username") String username);
 
     Optional<Address> findByUser(User user);
 }
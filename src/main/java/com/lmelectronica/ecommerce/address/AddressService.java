@@ -7,6 +7,7 @@ import com.lmelectronica.ecommerce.shared.dtos.AddressDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateAddressRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
 import com.lmelectronica.ecommerce.user.User;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 import com.lmelectronica.ecommerce.user.UserRepository;
 
 import lombok.AllArgsConstructor;
@@ -19,10 +20,11 @@ public class AddressService {
 
     private final UserRepository userRepository;
 
+    private final UserIdentityResolver userIdentityResolver;
+
     @Transactional
     public AddressDTO saveAddress(AddressDTO addressDTO, String username){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        User user = userIdentityResolver.reference(username);
         
         Address address = new Address();
         address.setStreet(addressDTO.getStreet());
@@ -65,7 +67,7 @@ public class AddressService {
             .orElseThrow(() -> new ResourceNotFoundException("User", username));
 
         Address address = addressRepository.findByUser(userFound)
-            .orElseThrow(() -> new ResourceNotFoundException("Address", userFound));
+            .orElseThrow(() -> new ResourceNotFoundException("Address", username));
         
         userFound.setAddress(null);
 
@@ -1,5 +1,6 @@
 package com.lmelectronica.ecommerce.auth;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -7,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -14,9 +16,11 @@ import com.lmelectronica.ecommerce.shared.dtos.AuthResponse;
 import com.lmelectronica.ecommerce.shared.dtos.ChangePasswordRequest;
 import com.lmelectronica.ecommerce.shared.dtos.DeleteRequest;
 import com.lmelectronica.ecommerce.shared.dtos.LoginRequest;
+import com.lmelectronica.ecommerce.shared.dtos.RefreshTokenRequest;
 import com.lmelectronica.ecommerce.shared.dtos.RegisterRequest;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateUserDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UserDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.AuthorizationException;
 import com.lmelectronica.ecommerce.user.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,6 +50,9 @@ public class AuthController {
                     content = @Content(schema = @Schema(implementation = AuthResponse.class))),
         @ApiResponse(responseCode = "400",
                     description = "Registration failed - invalid data or user already exists.",
+                    content = @Content),
+        @ApiResponse(responseCode = "429",
+                    description = "Too many concurrent authentication requests, retry later.",
                     content = @Content)
     })
     @PostMapping("/register")
@@ -70,6 +77,9 @@ public class AuthController {
                     content = @Content(schema = @Schema(implementation = AuthResponse.class))),
         @ApiResponse(responseCode = "400",
                     description = "Login failed - invalid credentials.",
+                    content = @Content),
+        @ApiResponse(responseCode = "429",
+                    description = "Too many concurrent authentication requests, retry later.",
                     content = @Content)})
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(
@@ -85,6 +95,45 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Refresh tokens",
+                description = "Exchanges a refresh token for a new access and refresh token. Each refresh token can be used once.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200",
+                    description = "Tokens rotated successfully.",
+                    content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+        @ApiResponse(responseCode = "401",
+                    description = "Refresh token invalid, expired, revoked or already used.",
+                    content = @Content)})
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(
+            @Parameter(description = "Refresh token issued by login, register or a previous refresh", required = true)
+            @RequestBody RefreshTokenRequest request) {
+
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @Operation(summary = "Logout",
+                description = "Revokes the access token and every refresh token of the same session.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204",
+                    description = "Session revoked.",
+                    content = @Content),
+        @ApiResponse(responseCode = "401",
+                    description = "Missing, invalid or expired token.",
+                    content = @Content)})
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw AuthorizationException.invalidToken();
+        }
+        authService.logout(authorization.substring(7));
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Change password",
                 description = "Updates user's password with proper validation.")
     @ApiResponses(value = {
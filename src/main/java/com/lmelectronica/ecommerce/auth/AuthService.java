@@ -1,15 +1,20 @@
 package com.lmelectronica.ecommerce.auth;
 
+import java.time.Instant;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.lmelectronica.ecommerce.config.JwtService;
 import com.lmelectronica.ecommerce.shared.dtos.AuthResponse;
 import com.lmelectronica.ecommerce.shared.dtos.LoginRequest;
+import com.lmelectronica.ecommerce.shared.dtos.RefreshTokenRequest;
 import com.lmelectronica.ecommerce.shared.dtos.RegisterRequest;
+import com.lmelectronica.ecommerce.shared.exceptions.AuthorizationException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
 import com.lmelectronica.ecommerce.user.Role;
 import com.lmelectronica.ecommerce.user.User;
@@ -30,12 +35,14 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
 
+    private final TokenRevocationList tokenRevocationList;
+
     public AuthResponse register(RegisterRequest request){
         if(userRepository.existsByUsername(request.getUsername())){
-            return new AuthResponse(null, null, null, null, "Username already exists. ");
+            return new AuthResponse("Username already exists. ");
         }
         if(userRepository.existsByEmail(request.getEmail())){
-            return new AuthResponse(null, null, null, null, "Email already exists. ");
+            return new AuthResponse("Email already exists. ");
         }
 
         User user = new User();
@@ -47,10 +54,8 @@ public class AuthService {
         user.setRole(request.getRole() != null ? request.getRole() : Role.customer);
 
         User savedUser = userRepository.save(user);
-        
-        String jwtToken = jwtService.generateToken(savedUser.getEmail());
 
-        return new AuthResponse(jwtToken, savedUser.getUsername(), savedUser.getEmail(), savedUser.getRole());
+        return issueTokens(savedUser, jwtService.newTokenId());
     }
 
 
@@ -65,9 +70,49 @@ public class AuthService {
             User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new ResourceNotFoundException("User", request.getUsername()));
 
-            String jwtToken = jwtService.generateToken(user);
-        
-            return new AuthResponse(jwtToken, user.getUsername(), user.getEmail(), user.getRole());
+            return issueTokens(user, jwtService.newTokenId());
+    }
+
+    // Each refresh token works once. Presenting one that was already rotated
+    // means it leaked, so the whole session (token family) is revoked.
+    public AuthResponse refresh(RefreshTokenRequest request){
+        DecodedJWT token = request.getRefreshToken() != null ? jwtService.verify(request.getRefreshToken()) : null;
+        if(token == null || !JwtService.isRefreshToken(token)) throw AuthorizationException.invalidToken();
+
+        String family = token.getClaim(JwtService.FAMILY_CLAIM).asString();
+        if(tokenRevocationList.isRevoked(token) || !tokenRevocationList.revoke(token.getId(), token.getExpiresAt().toInstant())){
+            revokeFamily(family);
+            throw AuthorizationException.invalidToken();
+        }
+
+        User user = userRepository.findByUsername(token.getSubject())
+            .orElseThrow(AuthorizationException::invalidToken);
+
+        return issueTokens(user, family);
+    }
+
+    public void logout(String accessToken){
+        DecodedJWT token = jwtService.verify(accessToken);
+        if(token == null) throw AuthorizationException.invalidToken();
+
+        String family = token.getClaim(JwtService.FAMILY_CLAIM).asString();
+        if(family != null){
+            revokeFamily(family);
+        } else {
+            tokenRevocationList.revoke(token.getId() != null ? token.getId() : accessToken, token.getExpiresAt().toInstant());
+        }
+    }
+
+    private void revokeFamily(String family){
+        if(family == null) return;
+        tokenRevocationList.revoke(family, Instant.now().plusMillis(jwtService.getRefreshExpiration()));
     }
-    
+
+    private AuthResponse issueTokens(User user, String family){
+        String accessToken = jwtService.generateAccessToken(user.getUsername(), family);
+        String refreshToken = jwtService.generateRefreshToken(user.getUsername(), family);
+
+        return new AuthResponse(accessToken, refreshToken, user.getUsername(), user.getEmail(), user.getRole());
+    }
+
 }
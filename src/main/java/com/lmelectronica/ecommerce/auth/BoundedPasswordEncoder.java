@@ -0,0 +1,114 @@
+package com.lmelectronica.ecommerce.auth;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.lmelectronica.ecommerce.shared.exceptions.CapacityExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a burst of logins cannot take
+ * every request thread's CPU. Callers still wait for their hash, but once
+ * the pool and its queue are full, or the wait exceeds the timeout, the
+ * request is refused with {@link CapacityExceededException} instead.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String CALIBRATION_INPUT = "calibration-password";
+
+    private final BCryptPasswordEncoder delegate;
+
+    private final AsyncTaskExecutor executor;
+
+    private final long waitTimeoutNanos;
+
+    private final Timer encodeTimer;
+
+    private final Timer matchesTimer;
+
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(BCryptPasswordEncoder delegate, AsyncTaskExecutor executor, Duration waitTimeout, MeterRegistry meterRegistry){
+        this.delegate = delegate;
+        this.executor = executor;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.encodeTimer = Timer.builder("app.security.password").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("app.security.password").tag("operation", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("app.security.password.rejected").register(meterRegistry);
+    }
+
+    /**
+     * Highest cost in [minStrength, maxStrength] whose hash still fits in the
+     * target latency on this machine. Each extra round doubles the work.
+     */
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength){
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(CALIBRATION_INPUT);
+
+        long start = System.nanoTime();
+        probe.encode(CALIBRATION_INPUT);
+        long elapsed = Math.max(1, System.nanoTime() - start);
+
+        int strength = minStrength;
+        while(strength < maxStrength && elapsed * 2 <= targetLatency.toNanos()){
+            elapsed *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword){
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword){
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // Hashes below the configured cost are rehashed by the authentication
+    // provider after a successful login.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword){
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task, Timer timer){
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw CapacityExceededException.passwordHashing();
+        }
+
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Not yet started: dropping it keeps the pool from hashing for a caller that already gave up.
+            future.cancel(false);
+            rejected.increment();
+            throw CapacityExceededException.passwordHashing();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw CapacityExceededException.passwordHashing();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,41 +1,54 @@
 package com.lmelectronica.ecommerce.auth;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.lmelectronica.ecommerce.config.JwtService;
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable;
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable.Access;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+    private final RouteAuthorizationTable routeAuthorizationTable;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   TokenRevocationList tokenRevocationList, RouteAuthorizationTable routeAuthorizationTable,
+                                   MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.routeAuthorizationTable = routeAuthorizationTable;
+        this.authenticatedTimer = Timer.builder("app.security.jwt").tag("outcome", "authenticated").register(meterRegistry);
+        this.rejectedTimer = Timer.builder("app.security.jwt").tag("outcome", "rejected").register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String path = request.getRequestURI();
-
-        if (path.startsWith("/swagger-ui") || 
-            path.startsWith("/v3/api-docs") || 
-            path.startsWith("/swagger-resources") || 
-            path.startsWith("/webjars") || 
-            path.startsWith("/api-docs")
-            ) {
+        if (routeAuthorizationTable.lookup(request) == Access.DOCUMENTATION) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -46,12 +59,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String jwt = authHeader.substring(7);
-        String username = jwtService.extractUsername(jwt);
+        long start = System.nanoTime();
+        boolean authenticated = authenticate(authHeader.substring(7), request);
+        (authenticated ? authenticatedTimer : rejectedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        filterChain.doFilter(request, response);
+    }
 
+    private boolean authenticate(String jwt, HttpServletRequest request) {
+        DecodedJWT token = jwtService.verify(jwt);
+        if (token == null || JwtService.isRefreshToken(token) || tokenRevocationList.isRevoked(token)) {
+            return false;
+        }
+
+        String username = token.getSubject();
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails;
+            try {
+                userDetails = userDetailsService.loadUserByUsername(username);
+            } catch (UsernameNotFoundException e) {
+                return false;
+            }
+            if (username.equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -59,9 +88,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                return true;
             }
         }
-
-        filterChain.doFilter(request, response);
+        return false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.lmelectronica.ecommerce.auth;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix="password-hashing")
+public class PasswordHashingProperties {
+
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int queueCapacity = 32;
+    private Duration waitTimeout = Duration.ofSeconds(2);
+
+    // Fixed BCrypt cost; when unset the cost is calibrated at startup so one
+    // hash takes about targetLatency, clamped to [minStrength, maxStrength].
+    private Integer strength;
+    private Duration targetLatency = Duration.ofMillis(100);
+    private int minStrength = 10;
+    private int maxStrength = 14;
+}
@@ -0,0 +1,120 @@
+package com.lmelectronica.ecommerce.auth;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.lmelectronica.ecommerce.config.JwtService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Revoked token ids, token families and subjects, each kept until the last
+ * token it could match has expired. Every authenticated request is checked,
+ * almost always against ids that were never revoked, so a Bloom filter
+ * answers those without touching the exact map. The list is per instance:
+ * with several nodes a revocation only applies where it was made.
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private static final String SUBJECT_PREFIX = "sub:";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int expectedEntries;
+
+    private final long maxTokenLifetimeMillis;
+
+    private final Map<String, Revocation> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    private final LongAdder filterNegatives = new LongAdder();
+
+    private final LongAdder exactLookups = new LongAdder();
+
+    public TokenRevocationList(@Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${jwt.refresh-expiration:1209600000}") long maxTokenLifetimeMillis){
+        this.expectedEntries = expectedEntries;
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    // False when the id was already revoked, which makes rotation single-use.
+    public synchronized boolean revoke(String id, Instant expiresAt){
+        if(revoked.putIfAbsent(id, new Revocation(Instant.now(), expiresAt)) != null) return false;
+        filter.put(id);
+        return true;
+    }
+
+    // Rejects every token of the user issued up to now, e.g. after the account is deleted.
+    public synchronized void revokeSubject(String username){
+        String id = SUBJECT_PREFIX + username;
+        Instant now = Instant.now();
+        revoked.put(id, new Revocation(now, now.plusMillis(maxTokenLifetimeMillis)));
+        filter.put(id);
+    }
+
+    public boolean isRevoked(DecodedJWT token){
+        if(isRevoked(token.getId()) || isRevoked(token.getClaim(JwtService.FAMILY_CLAIM).asString())) return true;
+
+        Revocation subject = lookup(SUBJECT_PREFIX + token.getSubject());
+        Date issuedAt = token.getIssuedAt();
+        return subject != null && (issuedAt == null || !issuedAt.toInstant().isAfter(subject.revokedAt()));
+    }
+
+    public boolean isRevoked(String id){
+        return lookup(id) != null;
+    }
+
+    public int size(){
+        return revoked.size();
+    }
+
+    // Bloom filters cannot forget, so after dropping expired entries the
+    // filter is rebuilt from what is left, growing if the list outgrew it.
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:300000}")
+    public synchronized void purgeExpired(){
+        Instant now = Instant.now();
+        revoked.values().removeIf(revocation -> revocation.expiresAt().isBefore(now));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry){
+        Gauge.builder("app.security.revocation.entries", revoked, Map::size).register(registry);
+        FunctionCounter.builder("app.security.revocation.checks", filterNegatives, LongAdder::sum)
+            .tag("path", "filter")
+            .register(registry);
+        FunctionCounter.builder("app.security.revocation.checks", exactLookups, LongAdder::sum)
+            .tag("path", "exact")
+            .register(registry);
+    }
+
+    private Revocation lookup(String id){
+        if(id == null) return null;
+        if(!filter.mightContain(id)){
+            filterNegatives.increment();
+            return null;
+        }
+        exactLookups.increment();
+        Revocation revocation = revoked.get(id);
+        return revocation != null && revocation.expiresAt().isAfter(Instant.now()) ? revocation : null;
+    }
+
+    private record Revocation(Instant revokedAt, Instant expiresAt) {}
+}
@@ -1,9 +1,11 @@
 package com.lmelectronica.ecommerce.auth;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.lmelectronica.ecommerce.user.User;
 import com.lmelectronica.ecommerce.user.UserRepository;
@@ -12,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -23,4 +25,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return user; 
     }
+
+    // Called by the authentication provider after a successful login whose
+    // stored hash is weaker than the current BCrypt cost.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        if(user instanceof User entity){
+            entity.setPassword(newPassword);
+        }
+        return user;
+    }
 }
\ No newline at end of file
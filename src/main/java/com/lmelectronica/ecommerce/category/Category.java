@@ -7,14 +7,18 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.lmelectronica.ecommerce.product.Product;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,7 +29,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="categories")
+@Table(name="categories", indexes=@Index(name="uk_categories_name", columnList="name", unique=true))
 public class Category {
 
     @Id
@@ -33,6 +37,9 @@ public class Category {
     private Long id;
     private String name;
     private String description;
+
+    @Column(nullable=false)
+    private Long version = 0L;
     
     @ManyToOne
     @JoinColumn(name="parent_id")
@@ -46,4 +53,14 @@ public class Category {
     @ManyToMany(mappedBy="categories")
     @JsonBackReference("product-category")
     private List<Product> products = new ArrayList<>();
+
+    @PrePersist
+    void initVersion(){
+        if(version == null) version = 0L;
+    }
+
+    @PreUpdate
+    void bumpVersion(){
+        version = version + 1;
+    }
 }
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.lmelectronica.ecommerce.shared.dtos.CategoryDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateCategoryRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.EcommerceException;
+import com.lmelectronica.ecommerce.shared.http.HttpCaching;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,6 +25,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 
 @Tag(name="Category", description="API that manages categories. ")
@@ -33,6 +35,8 @@ import lombok.AllArgsConstructor;
 public class CategoryController {
     private final CategoryService categoryService; 
 
+    private final HttpCaching httpCaching;
+
     @Operation(summary="Create category",
                 description="Create a new category. ")
     @ApiResponses(value={
@@ -62,6 +66,9 @@ public class CategoryController {
         @ApiResponse(responseCode="200",
                     description="Category found successfully. ",
                     content=@Content(schema= @Schema(implementation= CategoryDTO.class))),
+        @ApiResponse(responseCode="304",
+                    description="Not modified since the version in If-None-Match or If-Modified-Since. ",
+                    content= @Content),
         @ApiResponse(responseCode="404",
                     description="Category not found. ",
                     content= @Content)
@@ -69,10 +76,14 @@ public class CategoryController {
     @GetMapping("/by-id")
     public ResponseEntity<CategoryDTO> getCategoryById(
         @Parameter(description="ID of the category to retrieve. ", required=true)
-        @RequestParam Long id){
+        @RequestParam Long id,
+        HttpServletRequest request){
         try {
+            ResponseEntity<CategoryDTO> notModified = httpCaching.notModified(request, () -> categoryService.getCategoryVersion(id));
+            if(notModified != null) return notModified;
+
             CategoryDTO category = categoryService.getCategoryById(id);
-            return ResponseEntity.ok(category);
+            return httpCaching.ok(category, CategoryService.versionOf(category), request);
         } catch (EcommerceException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -84,6 +95,9 @@ public class CategoryController {
         @ApiResponse(responseCode="200",
                     description="Category found successfully. ",
                     content=@Content(schema= @Schema(implementation= CategoryDTO.class))),
+        @ApiResponse(responseCode="304",
+                    description="Not modified since the version in If-None-Match or If-Modified-Since. ",
+                    content= @Content),
         @ApiResponse(responseCode="404",
                     description="Category not found. ",
                     content= @Content)
@@ -91,10 +105,14 @@ public class CategoryController {
     @GetMapping("/by-name")
     public ResponseEntity<CategoryDTO> getCategoryByName(
         @Parameter(description="Name of the category to retrieve. ", required=true)
-        @RequestParam String name){
+        @RequestParam String name,
+        HttpServletRequest request){
         try {
+            ResponseEntity<CategoryDTO> notModified = httpCaching.notModified(request, () -> categoryService.getCategoryVersionByName(name));
+            if(notModified != null) return notModified;
+
             CategoryDTO category = categoryService.getCategoryByName(name);
-            return ResponseEntity.ok(category);
+            return httpCaching.ok(category, CategoryService.versionOf(category), request);
         } catch (EcommerceException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -121,10 +139,11 @@ public class CategoryController {
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request) {
 
         Page<CategoryDTO> categories = categoryService.getAllCategories(page, size);
-        return ResponseEntity.ok(categories);
+        return httpCaching.ok(categories, request);
     }
 
     @Operation(summary = "Update category",
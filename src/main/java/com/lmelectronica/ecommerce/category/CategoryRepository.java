@@ -3,10 +3,20 @@ package com.lmelectronica.ecommerce.category;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lmelectronica.ecommerce.shared.http.ResourceVersion;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByName(String name);
     Optional<Category> findByName(String name);
+
+    @Query("SELECT new com.lmelectronica.ecommerce.shared.http.ResourceVersion(c.id, c.version) FROM Category c WHERE c.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.lmelectronica.ecommerce.shared.http.ResourceVersion(c.id, c.version) FROM Category c WHERE c.name = :name")
+    Optional<ResourceVersion> findVersionByName(@Param("name") String name);
 }
@@ -10,6 +10,7 @@ import com.lmelectronica.ecommerce.shared.dtos.CategoryDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateCategoryRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.http.ResourceVersion;
 
 import lombok.AllArgsConstructor;
 
@@ -44,6 +45,20 @@ public class CategoryService {
         return modelMapper.map(category, CategoryDTO.class);
     }
     
+    public ResourceVersion getCategoryVersion(Long id){
+        return categoryRepository.findVersionById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Category", id));
+    }
+
+    public ResourceVersion getCategoryVersionByName(String name){
+        return categoryRepository.findVersionByName(name)
+            .orElseThrow(() -> new ResourceNotFoundException("Category", name));
+    }
+
+    public static ResourceVersion versionOf(CategoryDTO category){
+        return new ResourceVersion(category.getId(), category.getVersion());
+    }
+    
     public Page<CategoryDTO> getAllCategories(int page, int size){
         Pageable pageable = PageRequest.of(page, size);
         Page<Category> categories = categoryRepository.findAll(pageable);
@@ -0,0 +1,163 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures how long each pooled connection is held and by which service
+ * method. Slow releases are logged when the connection comes back; holds
+ * that never come back are reported by a periodic scan.
+ */
+@Component
+public class ConnectionHoldTracker {
+
+    public static final String HOLD_TIMER = "datasource.connection.hold";
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionHoldTracker.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final long warnThresholdNanos;
+
+    private final long leakThresholdNanos;
+
+    private final Set<Hold> open = ConcurrentHashMap.newKeySet();
+
+    private final Map<HoldKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> leaks = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTracker(MeterRegistry meterRegistry,
+                                 @Value("${datasource.connection-hold.warn-threshold-ms:1000}") long warnThresholdMillis,
+                                 @Value("${datasource.connection-hold.leak-threshold-ms:30000}") long leakThresholdMillis){
+        this.meterRegistry = meterRegistry;
+        this.warnThresholdNanos = TimeUnit.MILLISECONDS.toNanos(warnThresholdMillis);
+        this.leakThresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakThresholdMillis);
+    }
+
+    public Connection track(String pool, Connection connection){
+        Hold hold = new Hold(pool, ConnectionOwnerAspect.current(), Thread.currentThread().getName(), System.nanoTime());
+        open.add(hold);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class }, new TrackingHandler(connection, hold));
+    }
+
+    public List<Hold> openHolds(){
+        return open.stream().sorted(Comparator.comparingLong(Hold::startNanos)).toList();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.connection-hold.scan-interval-ms:10000}")
+    public void scanForLeaks(){
+        long now = System.nanoTime();
+        for(Hold hold : openHolds()){
+            long heldNanos = now - hold.startNanos();
+            if(heldNanos < leakThresholdNanos) break;
+            if(hold.markReported()){
+                leaks.computeIfAbsent(hold.pool(), pool -> Counter.builder("datasource.connection.leaks")
+                    .tag("pool", pool)
+                    .register(meterRegistry)).increment();
+                log.warn("Possible connection leak: {} connection held {}ms by {} on thread {}",
+                    hold.pool(), TimeUnit.NANOSECONDS.toMillis(heldNanos), hold.owner(), hold.thread());
+            }
+        }
+    }
+
+    private void release(Hold hold){
+        if(!open.remove(hold)) return;
+
+        long heldNanos = System.nanoTime() - hold.startNanos();
+        timers.computeIfAbsent(new HoldKey(hold.pool(), hold.owner()), key -> Timer.builder(HOLD_TIMER)
+            .tag("pool", key.pool())
+            .tag("method", key.owner())
+            .register(meterRegistry)).record(heldNanos, TimeUnit.NANOSECONDS);
+
+        if(heldNanos >= warnThresholdNanos){
+            log.warn("{} connection held {}ms by {}", hold.pool(), TimeUnit.NANOSECONDS.toMillis(heldNanos), hold.owner());
+        }
+    }
+
+    public static final class Hold {
+
+        private final String pool;
+
+        private final String owner;
+
+        private final String thread;
+
+        private final long startNanos;
+
+        private volatile boolean reported;
+
+        private Hold(String pool, String owner, String thread, long startNanos){
+            this.pool = pool;
+            this.owner = owner;
+            this.thread = thread;
+            this.startNanos = startNanos;
+        }
+
+        public String pool(){ return pool; }
+
+        public String owner(){ return owner; }
+
+        public String thread(){ return thread; }
+
+        public long startNanos(){ return startNanos; }
+
+        private boolean markReported(){
+            if(reported) return false;
+            reported = true;
+            return true;
+        }
+    }
+
+    private record HoldKey(String pool, String owner) {}
+
+    private final class TrackingHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private final Hold hold;
+
+        private TrackingHandler(Connection target, Hold hold){
+            this.target = target;
+            this.hold = hold;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> release(hold);
+                case "equals" -> { return proxy == args[0]; }
+                case "hashCode" -> { return System.identityHashCode(proxy); }
+                case "unwrap" -> {
+                    if(((Class<?>) args[0]).isInstance(proxy)) return proxy;
+                }
+                default -> { }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
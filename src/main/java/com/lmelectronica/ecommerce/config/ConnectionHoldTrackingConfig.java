@@ -0,0 +1,56 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class ConnectionHoldTrackingConfig {
+
+    // Wraps every Hikari pool, so with read/write routing enabled the primary
+    // and replica pools are tracked separately.
+    @Bean
+    public static BeanPostProcessor connectionHoldTrackingPostProcessor(ObjectProvider<ConnectionHoldTracker> tracker){
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName){
+                if(bean instanceof HikariDataSource hikari){
+                    return new TrackingDataSource(hikari, tracker);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class TrackingDataSource extends DelegatingDataSource {
+
+        private final HikariDataSource pool;
+
+        private final ObjectProvider<ConnectionHoldTracker> tracker;
+
+        TrackingDataSource(HikariDataSource pool, ObjectProvider<ConnectionHoldTracker> tracker){
+            super(pool);
+            this.pool = pool;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return tracker.getObject().track(pool.getPoolName(), pool.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return tracker.getObject().track(pool.getPoolName(), pool.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Remembers which service method is running on the current thread so pooled
+ * connections can be attributed to it. Ordered ahead of the transaction
+ * interceptor, which is where the connection is usually acquired.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionOwnerAspect {
+
+    public static final String UNATTRIBUTED = "unattributed";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    public static String current(){
+        String owner = CURRENT.get();
+        return owner != null ? owner : UNATTRIBUTED;
+    }
+
+    @Around("within(com.lmelectronica.ecommerce..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String owner = names.computeIfAbsent(method,
+            m -> ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName() + "." + m.getName());
+
+        String previous = CURRENT.get();
+        CURRENT.set(owner);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if(previous == null){
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.lmelectronica.ecommerce.config;
 
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +14,14 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 
 @Service
 public class JwtService {
+
+    public static final String TYPE_CLAIM = "typ";
+
+    public static final String FAMILY_CLAIM = "fam";
+
+    public static final String ACCESS_TYPE = "access";
+
+    public static final String REFRESH_TYPE = "refresh";
     
     @Value("${jwt.secret:mi_clave_secreta_muy_larga_y_segura_para_produccion_123456789}")
     private String SECRET_KEY;
@@ -20,38 +29,70 @@ public class JwtService {
     @Value("${jwt.expiration:3600000}")
     private long jwtExpiration;
 
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(userDetails.getUsername());
     }
 
     public String generateToken(String username) {
+        return generateAccessToken(username, newTokenId());
+    }
+
+    // Access and refresh tokens from one login share a family id, so
+    // revoking the family ends the whole session.
+    public String generateAccessToken(String username, String family) {
+        return sign(username, ACCESS_TYPE, family, jwtExpiration);
+    }
+
+    public String generateRefreshToken(String username, String family) {
+        return sign(username, REFRESH_TYPE, family, refreshExpiration);
+    }
+
+    public String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    private String sign(String username, String type, String family, long ttl) {
         return JWT.create()
                 .withSubject(username)
+                .withJWTId(newTokenId())
+                .withClaim(TYPE_CLAIM, type)
+                .withClaim(FAMILY_CLAIM, family)
                 .withIssuedAt(new Date())
-                .withExpiresAt(new Date(System.currentTimeMillis() + jwtExpiration))
+                .withExpiresAt(new Date(System.currentTimeMillis() + ttl))
                 .sign(Algorithm.HMAC256(SECRET_KEY));
     }
 
-    public String extractUsername(String token) {
+    // Signature and expiry checked; null when either fails.
+    public DecodedJWT verify(String token) {
         try {
             return JWT.require(Algorithm.HMAC256(SECRET_KEY))
                     .build()
-                    .verify(token)
-                    .getSubject();
+                    .verify(token);
         } catch (JWTVerificationException e) {
             return null;
         }
     }
 
+    // Tokens issued before refresh tokens existed carry no type and are access tokens.
+    public static boolean isRefreshToken(DecodedJWT token) {
+        return REFRESH_TYPE.equals(token.getClaim(TYPE_CLAIM).asString());
+    }
+
+    public String extractUsername(String token) {
+        DecodedJWT decodedJWT = verify(token);
+        return decodedJWT != null ? decodedJWT.getSubject() : null;
+    }
+
     public boolean isTokenExpired(String token) {
-        try {
-            DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC256(SECRET_KEY))
-                    .build()
-                    .verify(token);
-            return decodedJWT.getExpiresAt().before(new Date());
-        } catch (JWTVerificationException e) {
-            return true; 
-        }
+        DecodedJWT decodedJWT = verify(token);
+        return decodedJWT == null || decodedJWT.getExpiresAt().before(new Date());
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
@@ -67,4 +108,4 @@ public class JwtService {
                 extractedUsername.equals(username) && 
                 !isTokenExpired(token);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Aspect
+@Component
+public class MetricsAspect {
+
+    public static final String SERVICE_TIMER = "app.service";
+
+    public static final String REPOSITORY_TIMER = "app.repository";
+
+    public static final String MAPPER_TIMER = "app.mapper";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, String> repositoryEntities = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry){
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.lmelectronica.ecommerce..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return time(joinPoint, SERVICE_TIMER, "class", ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName(), method.getName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String entity = repositoryEntities.computeIfAbsent(joinPoint.getThis().getClass(), this::resolveEntity);
+        return time(joinPoint, REPOSITORY_TIMER, "entity", entity, joinPoint.getSignature().getName());
+    }
+
+    @Around("execution(* org.modelmapper.ModelMapper.map(Object, Class))")
+    public Object timeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> destination = (Class<?>) joinPoint.getArgs()[1];
+        return time(joinPoint, MAPPER_TIMER, "type", destination.getSimpleName(), "map");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, String ownerTag, String owner, String method) throws Throwable {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(new TimerKey(name, ownerTag, owner, method, exception))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(TimerKey key){
+        return timers.computeIfAbsent(key, k -> Timer.builder(k.name())
+            .tag(k.ownerTag(), k.owner())
+            .tag("method", k.method())
+            .tag("outcome", "none".equals(k.exception()) ? "success" : "error")
+            .tag("exception", k.exception())
+            .register(meterRegistry));
+    }
+
+    private String resolveEntity(Class<?> proxyClass){
+        for(Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(proxyClass)){
+            if(Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith("com.lmelectronica")){
+                Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(candidate, Repository.class);
+                if(arguments != null && arguments[0] != null) return arguments[0].getSimpleName();
+            }
+        }
+        return "unknown";
+    }
+
+    private record TimerKey(String name, String ownerTag, String owner, String method, String exception) {}
+}
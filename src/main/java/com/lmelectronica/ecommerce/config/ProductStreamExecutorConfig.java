@@ -0,0 +1,27 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.lmelectronica.ecommerce.product.ProductStreamProperties;
+
+@Configuration
+public class ProductStreamExecutorConfig {
+
+    // Each subscriber has at most one queued send, so sizing the queue to the
+    // subscriber limit means a full queue only happens under misconfiguration.
+    @Bean
+    public ThreadPoolTaskExecutor productStreamExecutor(ProductStreamProperties properties){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("product-stream-");
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getMaxSubscribers());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,87 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions opened by {@link ReplicaRead} methods to the
+ * replica while it is within the lag budget and everything else, including
+ * other read-only work, to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the target is picked after the transaction is marked read-only.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+
+    private final DataSource replica;
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter writes;
+
+    private final Counter replicaReads;
+
+    private final Counter primaryReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry){
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.writes = route(meterRegistry, "primary", "read-write");
+        this.primaryReads = route(meterRegistry, "primary", "read-only");
+        this.replicaReads = route(meterRegistry, "replica", "read-only");
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey(){
+        return replicaEligible() && lagMonitor.isReplicaUsable() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    // Eligibility is opt-in: inherited CRUD reads such as findById open their
+    // own read-only transaction, and those must stay on the primary so a
+    // lookup right after a write still sees it.
+    private static boolean replicaEligible(){
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && ReplicaReadAspect.isActive();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if(determineCurrentLookupKey() == Route.PRIMARY){
+            (TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? primaryReads : writes).increment();
+            return primary.getConnection();
+        }
+
+        try {
+            Connection connection = replica.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, String pool, String transaction){
+        return Counter.builder("datasource.routes")
+            .tag("pool", pool)
+            .tag("transaction", transaction)
+            .register(meterRegistry);
+    }
+}
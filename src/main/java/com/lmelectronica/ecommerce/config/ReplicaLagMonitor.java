@@ -0,0 +1,99 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private static final String WRITE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+
+    private final JdbcTemplate primary;
+
+    private final JdbcTemplate replica;
+
+    private final Duration maxLag;
+
+    private final Clock clock;
+
+    private volatile long lagMillis = -1;
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Clock clock){
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    public boolean isReplicaUsable(){
+        return replicaUsable;
+    }
+
+    public long getLagMillis(){
+        return lagMillis;
+    }
+
+    // Reads the replicated beat before writing the next one, so the measured
+    // lag is the true lag plus at most one check interval.
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check(){
+        long now = clock.millis();
+        try {
+            Timestamp beat = replica.queryForObject(READ_HEARTBEAT, Timestamp.class);
+            lagMillis = beat == null ? -1 : Math.max(0, now - beat.getTime());
+            update(lagMillis >= 0 && lagMillis <= maxLag.toMillis(), "lag " + lagMillis + "ms");
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            update(false, e.getMostSpecificCause().getMessage());
+        }
+
+        try {
+            primary.update(WRITE_HEARTBEAT, new Timestamp(now));
+        } catch (DataAccessException e) {
+            log.warn("Could not write replication heartbeat on primary: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    public void markUnavailable(Exception cause){
+        update(false, cause.getMessage());
+    }
+
+    private void update(boolean usable, String reason){
+        if(usable != replicaUsable){
+            if(usable){
+                log.info("Replica back in rotation ({})", reason);
+            } else {
+                log.warn("Routing read-only transactions to primary: {}", reason);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry){
+        Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::getLagMillis)
+            .baseUnit("milliseconds")
+            .description("Age of the replicated heartbeat, -1 when the replica cannot be read")
+            .register(registry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+            .register(registry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose reads may be served by the replica,
+ * and so may trail the primary by up to the lag budget. Unmarked read-only
+ * transactions stay on the primary.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
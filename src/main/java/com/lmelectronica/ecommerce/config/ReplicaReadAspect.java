@@ -0,0 +1,38 @@
+package com.lmelectronica.ecommerce.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records on the current thread that a {@link ReplicaRead} method is running,
+ * which is what lets the routing datasource send its read-only transaction to
+ * the replica. Ordered ahead of the transaction interceptor so the mark is in
+ * place before any connection is acquired.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    public static boolean isActive(){
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    @Around("@annotation(com.lmelectronica.ecommerce.config.ReplicaRead)")
+    public Object mark(ProceedingJoinPoint joinPoint) throws Throwable {
+        if(isActive()) return joinPoint.proceed();
+
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+}
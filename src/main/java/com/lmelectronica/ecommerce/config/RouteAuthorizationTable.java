@@ -0,0 +1,156 @@
+package com.lmelectronica.ecommerce.config;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Every route's access rule, compiled once into a trie keyed by path
+ * segment. A lookup walks the request path a single time without
+ * allocating; an exact pattern wins over a "/**" prefix and the longest
+ * prefix wins over shorter ones. Paths that match nothing are AUTHENTICATED.
+ */
+@Component
+public class RouteAuthorizationTable {
+
+    public enum Access {
+        // Public and never carries credentials, so the JWT filter skips it.
+        DOCUMENTATION,
+        PERMIT_ALL,
+        AUTHENTICATED,
+        ADMIN
+    }
+
+    private static final String WILDCARD_SUFFIX = "/**";
+
+    private static final String ACCESS_ATTRIBUTE = RouteAuthorizationTable.class.getName() + ".access";
+
+    private final Node root = new Node();
+
+    public RouteAuthorizationTable(){
+        this(defaultRoutes());
+    }
+
+    public RouteAuthorizationTable(Map<String, Access> routes){
+        routes.forEach(this::add);
+    }
+
+    public static Map<String, Access> defaultRoutes(){
+        Map<String, Access> routes = new LinkedHashMap<>();
+        routes.put("/swagger-ui/**", Access.DOCUMENTATION);
+        routes.put("/swagger-ui.html", Access.DOCUMENTATION);
+        routes.put("/v3/api-docs/**", Access.DOCUMENTATION);
+        routes.put("/api-docs/**", Access.DOCUMENTATION);
+        routes.put("/swagger-resources/**", Access.DOCUMENTATION);
+        routes.put("/webjars/**", Access.DOCUMENTATION);
+        // Metrics expose request paths, pool sizes and auth rejection rates.
+        routes.put("/actuator/**", Access.ADMIN);
+        routes.put("/actuator/health", Access.PERMIT_ALL);
+        routes.put("/actuator/health/**", Access.PERMIT_ALL);
+        routes.put("/api/auth/**", Access.PERMIT_ALL);
+        routes.put("/address/**", Access.AUTHENTICATED);
+        routes.put("/categories/**", Access.AUTHENTICATED);
+        routes.put("/favorites/**", Access.AUTHENTICATED);
+        routes.put("/orders/**", Access.AUTHENTICATED);
+        routes.put("/order-item/**", Access.AUTHENTICATED);
+        routes.put("/products/**", Access.AUTHENTICATED);
+        routes.put("/product-detail/**", Access.AUTHENTICATED);
+        routes.put("/reviews/**", Access.AUTHENTICATED);
+        return routes;
+    }
+
+    // Cached on the request so the JWT filter and the authorization filter share
+    // one lookup. The path is kept with it because FORWARD and ERROR dispatches
+    // reuse the request with a different URI.
+    public Access lookup(HttpServletRequest request){
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Object cached = request.getAttribute(ACCESS_ATTRIBUTE);
+        if(cached instanceof CachedAccess hit && hit.path().equals(path)) return hit.access();
+
+        Access access = lookup(path);
+        request.setAttribute(ACCESS_ATTRIBUTE, new CachedAccess(path, access));
+        return access;
+    }
+
+    public Access lookup(String path){
+        Node node = root;
+        Access best = root.subtree;
+        int start = path.startsWith("/") ? 1 : 0;
+
+        while(start <= path.length()){
+            int end = path.indexOf('/', start);
+            if(end < 0) end = path.length();
+
+            node = node.child(path, start, end - start);
+            if(node == null) break;
+            if(node.subtree != null) best = node.subtree;
+            if(end == path.length()){
+                if(node.exact != null) return node.exact;
+                break;
+            }
+            start = end + 1;
+        }
+        return best != null ? best : Access.AUTHENTICATED;
+    }
+
+    public RequestMatcher matcher(Access first, Access... rest){
+        Set<Access> accepted = EnumSet.of(first, rest);
+        return request -> accepted.contains(lookup(request));
+    }
+
+    private void add(String pattern, Access access){
+        boolean subtree = pattern.endsWith(WILDCARD_SUFFIX);
+        String literal = subtree ? pattern.substring(0, pattern.length() - WILDCARD_SUFFIX.length()) : pattern;
+
+        Node node = root;
+        for(String segment : literal.split("/")){
+            if(!segment.isEmpty()) node = node.childOrCreate(segment);
+        }
+        if(subtree){
+            node.subtree = access;
+        } else {
+            node.exact = access;
+        }
+    }
+
+    private record CachedAccess(String path, Access access) {}
+
+    private static final class Node {
+
+        private String[] segments = new String[0];
+
+        private Node[] children = new Node[0];
+
+        private Access exact;
+
+        private Access subtree;
+
+        // Compares in place against the request path; a handful of children
+        // per node makes a linear scan cheaper than hashing a substring.
+        private Node child(String path, int offset, int length){
+            for(int i = 0; i < segments.length; i++){
+                String segment = segments[i];
+                if(segment.length() == length && path.regionMatches(offset, segment, 0, length)) return children[i];
+            }
+            return null;
+        }
+
+        private Node childOrCreate(String segment){
+            Node existing = child(segment, 0, segment.length());
+            if(existing != null) return existing;
+
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+    }
+}
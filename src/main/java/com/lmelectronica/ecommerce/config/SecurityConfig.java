@@ -1,5 +1,8 @@
 package com.lmelectronica.ecommerce.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,14 +14,22 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.lmelectronica.ecommerce.auth.BoundedPasswordEncoder;
 import com.lmelectronica.ecommerce.auth.JwtAuthenticationFilter;
+import com.lmelectronica.ecommerce.auth.PasswordHashingProperties;
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable.Access;
+import com.lmelectronica.ecommerce.ratelimit.RateLimitFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -27,53 +38,52 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity(prePostEnabled= true)
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsService userDetailsService;
+    private final RouteAuthorizationTable routeAuthorizationTable;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
-
-                .requestMatchers("/swagger-ui/**").permitAll()
-                .requestMatchers("/swagger-ui.html").permitAll()
-                .requestMatchers("/v3/api-docs/**").permitAll()
-                .requestMatchers("/swagger-resources/**").permitAll()
-                .requestMatchers("/webjars/**").permitAll()
-                .requestMatchers("/address/**").authenticated()
-                .requestMatchers("/categories/**").authenticated()
-                .requestMatchers("/favorites/**").authenticated()
-                .requestMatchers("/api/auth/**").permitAll()
-                .requestMatchers("/orders/**").authenticated()
-                .requestMatchers("/order-item/**").authenticated()
-                .requestMatchers("/products/**").authenticated()
-                .requestMatchers("/product-detail/**").authenticated()
-                .requestMatchers("/reviews/**").authenticated()
-
-
-
+                // Async dispatches (SSE completion) belong to a request that was already authorized.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers(routeAuthorizationTable.matcher(Access.DOCUMENTATION, Access.PERMIT_ALL)).permitAll()
+                .requestMatchers(routeAuthorizationTable.matcher(Access.ADMIN)).hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
-            .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+            .authenticationProvider(authenticationProvider)
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties,
+                                           @Qualifier("passwordHashingExecutor") AsyncTaskExecutor executor,
+                                           MeterRegistry meterRegistry) {
+        int strength = properties.getStrength() != null
+            ? properties.getStrength()
+            : BoundedPasswordEncoder.calibrate(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        log.info("Password hashing with BCrypt cost {} on {} threads", strength, properties.getPoolSize());
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), executor, properties.getWaitTimeout(), meterRegistry);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, UserDetailsPasswordService userDetailsPasswordService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
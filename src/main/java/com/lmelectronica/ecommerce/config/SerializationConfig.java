@@ -0,0 +1,45 @@
+package com.lmelectronica.ecommerce.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Pages are written as {content, page: {size, number, totalElements,
+ * totalPages}} instead of the full PageImpl with its pageable and sort
+ * echo; that is spring.data.web.pageable.serialization-mode, set as a
+ * property so Boot's Spring Data web auto-configuration stays in charge of
+ * the other pageable settings. Blackbird swaps reflective property access
+ * for generated lambdas in every DTO serializer; Spring Boot picks the
+ * module bean up.
+ *
+ * Internal clients can send Accept: application/cbor or
+ * application/x-jackson-smile for the same DTO shapes in binary. Both
+ * mappers come from Boot's builder so they share the modules and settings
+ * of the JSON one, page envelope included; MVC's own fallbacks would not.
+ */
+@Configuration
+public class SerializationConfig {
+
+    @Bean
+    public Module blackbirdModule(){
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder){
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder){
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,31 @@
+package com.lmelectronica.ecommerce.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    @Bean
+    public ApplicationRunner threadingModeReporter(Environment environment) {
+        return args -> {
+            boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            boolean active = Threading.VIRTUAL.isActive(environment);
+
+            if (requested && !active) {
+                log.warn("Virtual threads requested but runtime is Java {}; falling back to platform threads",
+                        Runtime.version().feature());
+            }
+            log.info("Request and @Async execution on {} threads", active ? "virtual" : "platform");
+        };
+    }
+}
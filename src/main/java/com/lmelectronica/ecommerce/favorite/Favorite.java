@@ -10,9 +10,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -22,11 +24,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name="favorites")
+@Table(name="favorites", indexes={
+    @Index(name="uk_favorites_user_product", columnList="user_id, product_id", unique=true),
+    @Index(name="idx_favorites_product", columnList="product_id")})
 public class Favorite {
     
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.TABLE, generator="favorites_ids")
+    @TableGenerator(name="favorites_ids", table="id_generators", pkColumnName="sequence_name",
+                    valueColumnName="next_val", pkColumnValue="favorites", allocationSize=50)
     private Long id;
     private Date createdAt;
 
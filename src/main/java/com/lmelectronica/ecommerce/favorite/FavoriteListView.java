@@ -0,0 +1,8 @@
+package com.lmelectronica.ecommerce.favorite;
+
+import java.util.Date;
+
+public interface FavoriteListView {
+    Long getProductId();
+    Date getCreatedAt();
+}
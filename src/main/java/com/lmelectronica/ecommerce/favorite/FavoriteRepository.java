@@ -7,22 +7,28 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.lmelectronica.ecommerce.user.User;
-
 @Repository
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT f FROM Favorite f WHERE f.user.id = :userId AND f.product.id = :productId")
     Optional<Favorite> findByUserIdAndProductId(@Param("userId") Long userId, 
                                                 @Param("productId") Long productId);
 
-    List<Favorite> findFavoritesByUserId(Long userId);
-    void deleteByUserIdAndProductId(Long userId, Long productId);
-    long countByProductId(Long productId);
+    @Query("SELECT f FROM Favorite f WHERE f.user.id = :userId")
+    List<Favorite> findFavoritesByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.product.id = :productId")
+    void deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    @Query("SELECT COUNT(f) FROM Favorite f WHERE f.product.id = :productId")
+    long countByProductId(@Param("productId") Long productId);
 
-    Page<Favorite> findFavoritesByUser(User user, Pageable pageable);
+    @Query("SELECT f.product.id AS productId, f.createdAt AS createdAt FROM Favorite f WHERE f.user.id = :userId")
+    Page<FavoriteListView> findListingByUserId(@Param("userId") Long userId, Pageable pageable);
 
 }
@@ -7,16 +7,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.lmelectronica.ecommerce.config.ReplicaRead;
 import com.lmelectronica.ecommerce.product.Product;
 import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.shared.dtos.FavoriteDTO;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
 import com.lmelectronica.ecommerce.user.User;
-import com.lmelectronica.ecommerce.user.UserRepository;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 
 @Service
@@ -24,21 +26,20 @@ import lombok.AllArgsConstructor;
 public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
 
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     
     private final ProductRepository productRepository;
         
     @Transactional
     public FavoriteDTO createFavorite(String username, FavoriteDTO favoriteDTO) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        User user = userIdentityResolver.reference(username);
         Product product = productRepository.findById(favoriteDTO.getProductId())
             .orElseThrow(() -> new ResourceNotFoundException("Product", favoriteDTO.getProductId()));
         
         Optional<Favorite> existingFavorite = favoriteRepository.findByUserIdAndProductId(user.getId(), product.getId());
 
         if(existingFavorite.isPresent()){
-            throw BusinessRuleException.duplicateResource("Favorite", "userId and productId", existingFavorite);
+            throw BusinessRuleException.duplicateResource("Favorite", "userId and productId", user.getId() + ", " + product.getId());
         }
         
         Favorite favoriteMapped = new Favorite();
@@ -50,27 +51,28 @@ public class FavoriteService {
         return mapFavoriteDTO(savedFavorite);
     }
 
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public Page<FavoriteDTO> getFavoritesByUser(String username, int page, int size, Sort sort){
-        User userFound = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity userFound = userIdentityResolver.resolve(username);
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Favorite> favorites = favoriteRepository.findFavoritesByUser(userFound, pageable);
+        Page<FavoriteListView> favorites = favoriteRepository.findListingByUserId(userFound.id(), pageable);
 
-        return favorites.map(favorite -> mapFavoriteDTO(favorite));
+        return favorites.map(favorite -> new FavoriteDTO(favorite.getProductId(), favorite.getCreatedAt()));
     }
 
     @Transactional
     public void removeFavorite(String username, Long productId) {
-        User userFound = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity userFound = userIdentityResolver.resolve(username);
 
-        Favorite favorite = favoriteRepository.findByUserIdAndProductId(userFound.getId(), productId)
-            .orElseThrow(() -> new ResourceNotFoundException("Favorite not found for user: " + userFound.getId() + " and product: " + productId));
+        Favorite favorite = favoriteRepository.findByUserIdAndProductId(userFound.id(), productId)
+            .orElseThrow(() -> new ResourceNotFoundException("Favorite not found for user: " + userFound.id() + " and product: " + productId));
 
-        favoriteRepository.deleteByUserIdAndProductId(userFound.getId(), productId);
+        favoriteRepository.deleteByUserIdAndProductId(userFound.id(), productId);
     }
 
+    @Transactional(readOnly = true)
     public long countFavoritesByProductId(Long productId) {
         return favoriteRepository.countByProductId(productId);
     }
@@ -14,8 +14,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -27,8 +31,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name="orders")
+@Table(name="orders", indexes=@Index(name="idx_orders_user_created", columnList="user_id, created_at"))
+@NamedEntityGraph(name=Order.DETAIL_GRAPH,
+    attributeNodes=@NamedAttributeNode(value="items", subgraph="items"),
+    subgraphs=@NamedSubgraph(name="items", attributeNodes=@NamedAttributeNode("product")))
 public class Order {
+
+    public static final String DETAIL_GRAPH = "Order.detail";
     
     @Id
     @GeneratedValue(strategy=GenerationType.IDENTITY)
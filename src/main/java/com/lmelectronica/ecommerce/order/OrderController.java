@@ -18,7 +18,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.lmelectronica.ecommerce.shared.dtos.BulkStatusUpdateRequest;
+import com.lmelectronica.ecommerce.shared.dtos.BulkStatusUpdateResponse;
 import com.lmelectronica.ecommerce.shared.dtos.OrderDTO;
+import com.lmelectronica.ecommerce.shared.dtos.OrderDetailDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -166,9 +169,38 @@ public class OrderController {
         return ResponseEntity.ok(order);
     }
 
+    @Operation(
+        summary = "Get order detail",
+        description = "Retrieves an order with its items, unit prices, product names and line totals. "
+            + "Customers can only view their own orders; ADMIN can view any order."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Order detail retrieved successfully",
+            content = @Content(schema = @Schema(implementation = OrderDetailDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "User not authenticated"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Order not found"
+        )
+    })
+    @GetMapping("/detail")
+    public ResponseEntity<OrderDetailDTO> getOrderDetail(Authentication authentication, @RequestParam Long id) {
+        boolean admin = authentication.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+
+        OrderDetailDTO order = orderService.getOrderDetail(id, authentication.getName(), admin);
+        return ResponseEntity.ok(order);
+    }
+
     @Operation(
         summary = "Update an order",
-        description = "Updates an existing order. Only the owner can update their own order."
+        description = "Updates an existing order. Only the owner can update their own order, and the only status they can set is cancelled, while it is pending or preparing."
     )
     @ApiResponses({
         @ApiResponse(
@@ -204,6 +236,34 @@ public class OrderController {
         return ResponseEntity.ok(order);
     }
 
+    @Operation(
+        summary = "Bulk update order status",
+        description = "Moves many orders to a target status in one operation. Orders whose current status cannot transition to the target are rejected. Only accessible by ADMIN."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Transition applied, with counts of moved, skipped and rejected orders",
+            content = @Content(schema = @Schema(implementation = BulkStatusUpdateResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "User not authenticated"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied: only ADMIN can bulk update orders"
+        )
+    })
+    @PutMapping("/admin/bulk-status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(
+            @RequestBody BulkStatusUpdateRequest request) {
+
+        BulkStatusUpdateResponse response = orderService.bulkUpdateStatus(request);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "Delete an order",
         description = "Deletes an order. Only the owner can delete their own order, and only if it's pending."
@@ -0,0 +1,9 @@
+package com.lmelectronica.ecommerce.order;
+
+public interface OrderListView {
+    Long getId();
+    String getBillingAddress();
+    Status getStatus();
+    Long getUserId();
+    double getTotalAmount();
+}
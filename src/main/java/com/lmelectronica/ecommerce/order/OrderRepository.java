@@ -1,12 +1,50 @@
 package com.lmelectronica.ecommerce.order;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    Page<Order> findByUserId(Long id, Pageable pageable);
+    @Query("SELECT o.id AS id, o.billingAddress AS billingAddress, o.status AS status, "
+         + "o.user.id AS userId, o.totalAmount AS totalAmount FROM Order o")
+    Page<OrderListView> findListing(Pageable pageable);
+
+    @Query("SELECT o.id AS id, o.billingAddress AS billingAddress, o.status AS status, "
+         + "o.user.id AS userId, o.totalAmount AS totalAmount FROM Order o WHERE o.user.id = :id")
+    Page<OrderListView> findListingByUserId(@Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Order.DETAIL_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findDetailById(@Param("id") Long id);
+
+    @EntityGraph(Order.DETAIL_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id = :id AND o.user.username = :username")
+    Optional<Order> findDetailByIdAndUsername(@Param("id") Long id, @Param("username") String username);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id AS id, o.status AS status FROM Order o WHERE o.id IN :ids")
+    List<OrderStatusView> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :target WHERE o.id IN :ids AND o.status = :source")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                    @Param("source") Status source,
+                    @Param("target") Status target);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids AND o.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") Status status);
 }
@@ -1,7 +1,15 @@
 package com.lmelectronica.ecommerce.order;
 
+import java.util.ArrayList;
 import java.util.Date;
-
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -9,11 +17,19 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lmelectronica.ecommerce.config.ReplicaRead;
+import com.lmelectronica.ecommerce.orderItem.OrderItemService;
+import com.lmelectronica.ecommerce.outbox.OutboxService;
+import com.lmelectronica.ecommerce.shared.dtos.BulkStatusUpdateRequest;
+import com.lmelectronica.ecommerce.shared.dtos.BulkStatusUpdateResponse;
 import com.lmelectronica.ecommerce.shared.dtos.OrderDTO;
+import com.lmelectronica.ecommerce.shared.dtos.OrderDetailDTO;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.exceptions.ValidationException;
 import com.lmelectronica.ecommerce.user.User;
-import com.lmelectronica.ecommerce.user.UserRepository;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 
 import lombok.AllArgsConstructor;
 
@@ -23,12 +39,15 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
 
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final OutboxService outboxService;
 
     @Transactional
     public OrderDTO createOrder(OrderDTO orderDTO, String username){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        User user = userIdentityResolver.reference(username);
         
         Order order = new Order();
         order.setBillingAddress(orderDTO.getBillingAddress());
@@ -38,22 +57,25 @@ public class OrderService {
 
         Order orderSaved = orderRepository.save(order);
 
+        outboxService.orderCreated(orderSaved);
+
         return mapOrderDTO(orderSaved);
     }
 
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public Page<OrderDTO> getAllOrders(int page, int size, Sort sort){
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Order> orders = orderRepository.findAll(pageable);
+        Page<OrderListView> orders = orderRepository.findListing(pageable);
         
         return orders.map(order -> mapOrderDTO(order));
     }
 
     public Page<OrderDTO> getOrdersByUser(String username, int page, int size, Sort sort){
-        User userFound = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity user = userIdentityResolver.resolve(username);
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Order> orders = orderRepository.findByUserId(userFound.getId(), pageable);
+        Page<OrderListView> orders = orderRepository.findListingByUserId(user.id(), pageable);
 
         return orders.map(order -> mapOrderDTO(order));
     }
@@ -65,39 +87,119 @@ public class OrderService {
         return mapOrderDTO(order);
     }
 
+    public OrderDetailDTO getOrderDetail(Long orderId, String username, boolean admin){
+        Optional<Order> found = admin
+            ? orderRepository.findDetailById(orderId)
+            : orderRepository.findDetailByIdAndUsername(orderId, username);
+        Order order = found.orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
+
+        return new OrderDetailDTO(
+            order.getId(),
+            order.getBillingAddress(),
+            order.getStatus(),
+            order.getUser().getId(),
+            order.getTotalAmount(),
+            order.getItems().stream().map(OrderItemService::mapOrderItemDTO).toList());
+    }
+
     @Transactional
     public OrderDTO updateOrder(OrderDTO orderDTO, Long orderId, String username){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity user = userIdentityResolver.resolve(username);
 
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
         
-        if(!order.getUser().getId().equals(user.getId())) throw new BusinessRuleException("You can only update your own orders. ");
+        if(!order.getUser().getId().equals(user.id())) throw new BusinessRuleException("You can only update your own orders. ");
             
         if(orderDTO.getBillingAddress() != null) order.setBillingAddress(orderDTO.getBillingAddress());
-        if(orderDTO.getStatus() != null) order.setStatus(orderDTO.getStatus());
+
+        Status previousStatus = order.getStatus();
+        boolean statusChanged = orderDTO.getStatus() != null && orderDTO.getStatus() != previousStatus;
+
+        if(statusChanged){
+            // Fulfillment statuses are set by staff through the bulk endpoint;
+            // the owner may only withdraw an order that has not shipped.
+            if(orderDTO.getStatus() != Status.cancelled){
+                throw new BusinessRuleException("You can only cancel your own orders. ");
+            }
+            if(!previousStatus.canTransitionTo(orderDTO.getStatus())){
+                throw BusinessRuleException.invalidStatusTransition(previousStatus, orderDTO.getStatus(), previousStatus.nextStatuses());
+            }
+            order.setStatus(orderDTO.getStatus());
+        }
 
         Order orderSaved = orderRepository.save(order);
 
+        if(statusChanged){
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderSaved.getId(), previousStatus, orderSaved.getStatus(), new Date()));
+        }
+
         return mapOrderDTO(orderSaved);
     }
 
     @Transactional
     public void deleteOrder(String username, Long orderId){
-        User userFound = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity userFound = userIdentityResolver.resolve(username);
 
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
 
-        if(!order.getUser().getId().equals(userFound.getId())){
+        if(!order.getUser().getId().equals(userFound.id())){
             throw new BusinessRuleException("You can only delete your own orders. ");
         }
 
         orderRepository.delete(order);
     }
 
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request){
+        Status target = request.getTargetStatus();
+        if(target == null) throw new ValidationException("targetStatus", "must not be null");
+
+        Set<Long> requestedIds = request.getOrderIds() == null
+            ? Set.of()
+            : new LinkedHashSet<>(request.getOrderIds());
+
+        BulkStatusUpdateResponse response = new BulkStatusUpdateResponse(target, 0, 0, 0);
+        if(requestedIds.isEmpty()) return response;
+
+        List<OrderStatusView> current = orderRepository.lockStatusesByIdIn(requestedIds);
+
+        Map<Status, List<Long>> idsBySource = new EnumMap<>(Status.class);
+        for(OrderStatusView view : current){
+            idsBySource.computeIfAbsent(view.getStatus(), status -> new ArrayList<>()).add(view.getId());
+        }
+
+        response.setSkipped(requestedIds.size() - current.size());
+
+        Date changedAt = new Date();
+        for(Map.Entry<Status, List<Long>> group : idsBySource.entrySet()){
+            Status source = group.getKey();
+            List<Long> ids = group.getValue();
+
+            if(source == target){
+                response.setSkipped(response.getSkipped() + ids.size());
+                continue;
+            }
+            if(!source.canTransitionTo(target)){
+                response.setRejected(response.getRejected() + ids.size());
+                continue;
+            }
+
+            int updated = orderRepository.updateStatus(ids, source, target);
+            response.setMoved(response.getMoved() + updated);
+            response.setSkipped(response.getSkipped() + ids.size() - updated);
+
+            // Only rows that actually moved get an event.
+            List<Long> moved = updated == ids.size() ? ids : orderRepository.findIdsByIdInAndStatus(ids, target);
+            for(Long id : moved){
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(id, source, target, changedAt));
+            }
+        }
+
+        return response;
+    }
+
     public double calculateOrderTotal(Long orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
@@ -122,4 +224,15 @@ public class OrderService {
 
         return orderMap;
     }
+
+    public OrderDTO mapOrderDTO(OrderListView order){
+        OrderDTO orderMap = new OrderDTO();
+        orderMap.setId(order.getId());
+        orderMap.setBillingAddress(order.getBillingAddress());
+        orderMap.setStatus(order.getStatus());
+        orderMap.setUserId(order.getUserId());
+        orderMap.setTotalAmount(order.getTotalAmount());
+
+        return orderMap;
+    }
 }
@@ -0,0 +1,15 @@
+package com.lmelectronica.ecommerce.order;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+    private Long orderId;
+    private Status previousStatus;
+    private Status newStatus;
+    private Date changedAt;
+}
@@ -0,0 +1,6 @@
+package com.lmelectronica.ecommerce.order;
+
+public interface OrderStatusView {
+    Long getId();
+    Status getStatus();
+}
@@ -1,5 +1,29 @@
 package com.lmelectronica.ecommerce.order;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum Status {
-    pending, preparing, shipped, is_delivered, delivered, cancelled
+    pending, preparing, shipped, is_delivered, delivered, cancelled;
+
+    private static final Map<Status, Set<Status>> TRANSITIONS = new EnumMap<>(Status.class);
+
+    static {
+        TRANSITIONS.put(pending, EnumSet.of(preparing, cancelled));
+        TRANSITIONS.put(preparing, EnumSet.of(shipped, cancelled));
+        TRANSITIONS.put(shipped, EnumSet.of(is_delivered, delivered));
+        TRANSITIONS.put(is_delivered, EnumSet.of(delivered));
+        TRANSITIONS.put(delivered, EnumSet.noneOf(Status.class));
+        TRANSITIONS.put(cancelled, EnumSet.noneOf(Status.class));
+    }
+
+    public boolean canTransitionTo(Status target){
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public Set<Status> nextStatuses(){
+        return EnumSet.copyOf(TRANSITIONS.get(this));
+    }
 }
@@ -6,12 +6,15 @@ import com.lmelectronica.ecommerce.order.Order;
 import com.lmelectronica.ecommerce.product.Product;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,21 +24,23 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="orders_items")
+@Table(name="orders_items", indexes=@Index(name="idx_orders_items_order", columnList="order_id"))
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.TABLE, generator="orders_items_ids")
+    @TableGenerator(name="orders_items_ids", table="id_generators", pkColumnName="sequence_name",
+                    valueColumnName="next_val", pkColumnValue="orders_items", allocationSize=50)
     private Long id;
     private int quantity;
     private double price;
     
-    @ManyToOne
+    @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="order_id")
     @JsonBackReference("orderItem-order")
     private Order order;
     
-    @ManyToOne
+    @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="product_id")
     @JsonManagedReference("orderItem-product")
     private Product product;
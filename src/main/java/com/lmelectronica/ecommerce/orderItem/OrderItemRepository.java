@@ -1,11 +1,19 @@
 package com.lmelectronica.ecommerce.orderItem;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
-    List<OrderItem> findByOrderId(Long orderId);
+    @Query("SELECT i FROM OrderItem i LEFT JOIN FETCH i.product WHERE i.order.id = :orderId")
+    List<OrderItem> findByOrderId(@Param("orderId") Long orderId);
+
+    @EntityGraph(attributePaths="product")
+    Optional<OrderItem> findWithProductById(Long id);
 }
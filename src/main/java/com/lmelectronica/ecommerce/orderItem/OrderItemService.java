@@ -3,13 +3,17 @@ package com.lmelectronica.ecommerce.orderItem;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.lmelectronica.ecommerce.order.Order;
 import com.lmelectronica.ecommerce.order.OrderRepository;
 import com.lmelectronica.ecommerce.order.OrderService;
+import com.lmelectronica.ecommerce.outbox.OutboxEventType;
+import com.lmelectronica.ecommerce.outbox.OutboxService;
 import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductChangedEvent;
 import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.shared.dtos.OrderItemDTO;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
@@ -29,6 +33,10 @@ public class OrderItemService {
 
     private final OrderService orderService;
 
+    private final OutboxService outboxService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public OrderItemDTO createOrderItem(OrderItemDTO orderItemDTO, Long productId, Long orderId){
         Product product = productRepository.findById(productId)
@@ -49,6 +57,10 @@ public class OrderItemService {
 
         OrderItem itemSaved = orderItemRepository.save(item);
 
+        outboxService.orderItemChanged(itemSaved, OutboxEventType.order_item_added);
+        outboxService.stockChanged(product, -itemSaved.getQuantity());
+        eventPublisher.publishEvent(ProductChangedEvent.of(product));
+
         return mapOrderItemDTO(itemSaved);
     }
 
@@ -56,12 +68,12 @@ public class OrderItemService {
         List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
 
         return items.stream()
-                        .map(this::mapOrderItemDTO)
+                        .map(OrderItemService::mapOrderItemDTO)
                         .collect(Collectors.toList());            
     }
 
     public OrderItemDTO getItemById(Long itemId){
-        OrderItem item = orderItemRepository.findById(itemId)
+        OrderItem item = orderItemRepository.findWithProductById(itemId)
             .orElseThrow(() -> new ResourceNotFoundException("OrderItem", itemId));
 
         return mapOrderItemDTO(item);
@@ -85,10 +97,16 @@ public class OrderItemService {
         }
 
         itemExisting.setQuantity(orderItemDTO.getQuantity());
-        itemExisting.setPrice(orderItemDTO.getQuantity() * product.getPrice());
+        itemExisting.setPrice(product.getPrice());
 
         OrderItem updatedItem = orderItemRepository.save(itemExisting);
 
+        outboxService.orderItemChanged(updatedItem, OutboxEventType.order_item_updated);
+        if(quantityDifference != 0){
+            outboxService.stockChanged(product, -quantityDifference);
+            eventPublisher.publishEvent(ProductChangedEvent.of(product));
+        }
+
         return mapOrderItemDTO(updatedItem);
     }
 
@@ -100,13 +118,26 @@ public class OrderItemService {
         Product product = item.getProduct();
 
         product.restartStock(item.getQuantity());
+
+        outboxService.orderItemChanged(item, OutboxEventType.order_item_removed);
+        outboxService.stockChanged(product, item.getQuantity());
+        eventPublisher.publishEvent(ProductChangedEvent.of(product));
     
         orderItemRepository.delete(item);
     }
 
-    public OrderItemDTO mapOrderItemDTO(OrderItem item){
+    public static OrderItemDTO mapOrderItemDTO(OrderItem item){
         OrderItemDTO orderItemDTO = new OrderItemDTO();
+        orderItemDTO.setId(item.getId());
         orderItemDTO.setQuantity(item.getQuantity());
+        orderItemDTO.setPrice(item.getPrice());
+        orderItemDTO.setLineTotal(item.getPrice() * item.getQuantity());
+
+        Product product = item.getProduct();
+        if(product != null){
+            orderItemDTO.setProductId(product.getId());
+            orderItemDTO.setProductName(product.getName());
+        }
 
         return orderItemDTO;
     }
@@ -0,0 +1,22 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name="outbox.sink", havingValue="listener", matchIfMissing=true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> batch){
+        batch.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,51 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Component
+@ConditionalOnProperty(name="outbox.sink", havingValue="file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper,
+                        @Value("${outbox.file.path:outbox-events.log}") String path){
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for(OutboxMessage message : batch){
+            lines.append(objectMapper.writeValueAsString(message)).append('\n');
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if(parent != null) Files.createDirectories(parent);
+
+        try(FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)){
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while(buffer.hasRemaining()){
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
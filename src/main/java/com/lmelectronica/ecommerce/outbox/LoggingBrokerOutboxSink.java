@@ -0,0 +1,33 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name="outbox.sink", havingValue="broker")
+public class LoggingBrokerOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingBrokerOutboxSink.class);
+
+    private final String topicPrefix;
+
+    public LoggingBrokerOutboxSink(@Value("${outbox.broker.topic-prefix:ecommerce.}") String topicPrefix){
+        this.topicPrefix = topicPrefix;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch){
+        for(OutboxMessage message : batch){
+            log.info("broker send topic={} key={} id={} payload={}",
+                topicPrefix + message.getAggregateType().toLowerCase(),
+                message.getAggregateId(),
+                message.getId(),
+                message.getPayload());
+        }
+    }
+}
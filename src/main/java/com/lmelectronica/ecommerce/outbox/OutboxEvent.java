@@ -0,0 +1,38 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name="outbox_events", indexes=@Index(name="idx_outbox_events_published", columnList="published_at, id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(length=2000)
+    private String payload;
+    private Date createdAt;
+    private Date publishedAt;
+}
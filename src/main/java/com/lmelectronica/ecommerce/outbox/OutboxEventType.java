@@ -0,0 +1,11 @@
+package com.lmelectronica.ecommerce.outbox;
+
+public enum OutboxEventType {
+    order_created,
+    order_status_changed,
+    order_item_added,
+    order_item_updated,
+    order_item_removed,
+    product_updated,
+    stock_changed
+}
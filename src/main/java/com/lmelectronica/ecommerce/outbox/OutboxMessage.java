@@ -0,0 +1,29 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxMessage {
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    private OutboxEventType eventType;
+    private String payload;
+    private Date createdAt;
+
+    public static OutboxMessage from(OutboxEvent event){
+        return new OutboxMessage(
+            event.getId(),
+            event.getAggregateType(),
+            event.getAggregateId(),
+            event.getEventType(),
+            event.getPayload(),
+            event.getCreatedAt());
+    }
+}
@@ -0,0 +1,85 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name="outbox.relay.enabled", havingValue="true", matchIfMissing=true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final OutboxSink sink;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerPoll;
+
+    private final long retentionMillis;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                    OutboxSink sink,
+                    PlatformTransactionManager transactionManager,
+                    @Value("${outbox.batch-size:100}") int batchSize,
+                    @Value("${outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                    @Value("${outbox.retention-hours:24}") long retentionHours){
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.retentionMillis = TimeUnit.HOURS.toMillis(retentionHours);
+    }
+
+    @Scheduled(fixedDelayString="${outbox.poll-interval-ms:1000}")
+    public void poll(){
+        for(int i = 0; i < maxBatchesPerPoll; i++){
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, batch will be retried on next poll", e);
+                return;
+            }
+            if(relayed < batchSize) return;
+        }
+    }
+
+    public int relayBatch(){
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(PageRequest.of(0, batchSize));
+            if(batch.isEmpty()) return 0;
+
+            try {
+                sink.publish(batch.stream().map(OutboxMessage::from).toList());
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink rejected batch starting at id " + batch.get(0).getId(), e);
+            }
+
+            outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), new Date());
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    @Scheduled(fixedDelayString="${outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished(){
+        transactionTemplate.executeWithoutResult(status ->
+            outboxEventRepository.deletePublishedBefore(new Date(System.currentTimeMillis() - retentionMillis)));
+    }
+}
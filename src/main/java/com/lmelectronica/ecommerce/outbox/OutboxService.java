@@ -0,0 +1,94 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lmelectronica.ecommerce.order.Order;
+import com.lmelectronica.ecommerce.order.OrderStatusChangedEvent;
+import com.lmelectronica.ecommerce.orderItem.OrderItem;
+import com.lmelectronica.ecommerce.product.Product;
+
+import lombok.AllArgsConstructor;
+
+// Class-level so the guard applies to the event helpers too; they are the
+// methods other services call through the proxy, while record is reached
+// from them as a self-call.
+@Service
+@AllArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public void record(String aggregateType, Long aggregateId, OutboxEventType eventType, Map<String, Object> payload){
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setPayload(toJson(payload));
+        event.setCreatedAt(new Date());
+
+        outboxEventRepository.save(event);
+    }
+
+    public void orderCreated(Order order){
+        record("Order", order.getId(), OutboxEventType.order_created, payload(
+            "userId", order.getUser().getId(),
+            "status", order.getStatus()));
+    }
+
+    public void orderItemChanged(OrderItem item, OutboxEventType eventType){
+        record("Order", item.getOrder().getId(), eventType, payload(
+            "itemId", item.getId(),
+            "productId", item.getProduct().getId(),
+            "quantity", item.getQuantity(),
+            "price", item.getPrice()));
+    }
+
+    public void stockChanged(Product product, int delta){
+        record("Product", product.getId(), OutboxEventType.stock_changed, payload(
+            "delta", delta,
+            "stock", product.getStock()));
+    }
+
+    public void productUpdated(Product product){
+        record("Product", product.getId(), OutboxEventType.product_updated, payload(
+            "price", product.getPrice(),
+            "stock", product.getStock()));
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event){
+        record("Order", event.getOrderId(), OutboxEventType.order_status_changed, payload(
+            "from", event.getPreviousStatus(),
+            "to", event.getNewStatus()));
+    }
+
+    // Map.of rejects nulls, and fields such as a product's price or stock
+    // may be unset; a missing value must not roll back the business write.
+    private static Map<String, Object> payload(Object... keysAndValues){
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for(int i = 0; i < keysAndValues.length; i += 2){
+            payload.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return payload;
+    }
+
+    private String toJson(Map<String, Object> payload){
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload could not be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> batch) throws Exception;
+}
@@ -12,14 +12,18 @@ import com.lmelectronica.ecommerce.review.Review;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -30,7 +34,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="products")
+@Table(name="products", indexes=@Index(name="uk_products_name", columnList="name", unique=true))
 public class Product {
 
     @Id
@@ -42,6 +46,11 @@ public class Product {
     private Date createdAt;
     private Date updatedAt;
     private String description;
+
+    // Revision behind the ETag of product reads. Deliberately not a JPA
+    // @Version: concurrent orders reducing stock must not start failing.
+    @Column(nullable=false)
+    private Long version = 0L;
     
     @OneToMany(mappedBy="product", cascade=CascadeType.ALL)
     @JsonManagedReference("product-favorite")
@@ -60,6 +69,17 @@ public class Product {
     @JsonBackReference("review-product")
     private List<Review> reviews = new ArrayList<>();
 
+    @PrePersist
+    void initVersion(){
+        if(version == null) version = 0L;
+    }
+
+    @PreUpdate
+    void bumpVersion(){
+        version = version + 1;
+        updatedAt = new Date();
+    }
+
     public void reduceStock(int quantity){
         if(quantity > this.stock){
             throw BusinessRuleException.insufficentStock(this.name, quantity, this.stock);
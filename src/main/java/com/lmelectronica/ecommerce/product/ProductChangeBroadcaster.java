@@ -0,0 +1,282 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.lmelectronica.ecommerce.shared.exceptions.CapacityExceededException;
+import com.lmelectronica.ecommerce.shared.exceptions.ValidationException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Pushes committed stock and price changes to SSE subscribers. Changes are
+ * coalesced per product between flushes and again per subscriber while a send
+ * is in flight, so a slow client holds at most one pending change per product
+ * it watches. Sends are blocking servlet writes, so one that has not returned
+ * within send-timeout is treated as a client that stopped reading: the
+ * subscriber is dropped, its request failed and the sending thread
+ * interrupted, which bounds how long it can hold a fan-out thread. An idle
+ * subscriber costs its async request plus a few small objects; no thread is
+ * held.
+ */
+@Component
+public class ProductChangeBroadcaster implements MeterBinder {
+
+    public static final String EVENT_NAME = "product-change";
+
+    private final ProductStreamProperties properties;
+
+    private final Executor executor;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Map<Long, Set<Subscriber>> subscribersByProduct = new ConcurrentHashMap<>();
+
+    private final Map<Long, ProductChangedEvent> changed = new ConcurrentHashMap<>();
+
+    private final LongAdder received = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder superseded = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder stalled = new LongAdder();
+
+    public ProductChangeBroadcaster(ProductStreamProperties properties,
+                                    @Qualifier("productStreamExecutor") Executor executor){
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    public SseEmitter subscribe(Collection<Long> productIds){
+        long[] ids = productIds.stream().filter(Objects::nonNull).distinct().mapToLong(Long::longValue).toArray();
+        if(ids.length == 0){
+            throw new ValidationException("ids", "At least one product id is required. ");
+        }
+        if(ids.length > properties.getMaxProductsPerSubscription()){
+            throw new ValidationException("ids", "At most " + properties.getMaxProductsPerSubscription() + " products per stream. ");
+        }
+        if(subscribers.size() >= properties.getMaxSubscribers()){
+            throw CapacityExceededException.productStream();
+        }
+
+        SseEmitter emitter = newEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, ids);
+        subscribers.add(subscriber);
+        for(long id : ids){
+            subscribersByProduct.compute(id, (key, watching) -> {
+                Set<Subscriber> set = watching != null ? watching : ConcurrentHashMap.newKeySet();
+                set.add(subscriber);
+                return set;
+            });
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    // Only committed changes are pushed; without a transaction the event is
+    // taken as already final.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event){
+        received.increment();
+        if(!subscribersByProduct.containsKey(event.getProductId())) return;
+
+        changed.merge(event.getProductId(), event, (previous, latest) -> {
+            coalesced.increment();
+            return latest.getChangedAt().before(previous.getChangedAt()) ? previous : latest;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${product-stream.flush-interval-ms:250}")
+    public void flush(){
+        for(Long productId : changed.keySet()){
+            ProductChangedEvent change = changed.remove(productId);
+            Set<Subscriber> watching = subscribersByProduct.get(productId);
+            if(change == null || watching == null) continue;
+
+            for(Subscriber subscriber : watching){
+                if(subscriber.pending.put(productId, change) != null) superseded.increment();
+                schedule(subscriber);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product-stream.heartbeat-interval-ms:30000}")
+    public void heartbeat(){
+        for(Subscriber subscriber : subscribers){
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product-stream.stall-check-interval-ms:1000}")
+    public void dropStalledSubscribers(){
+        long now = System.nanoTime();
+        long limit = properties.getSendTimeout().toNanos();
+        for(Subscriber subscriber : subscribers){
+            long started = subscriber.sendStartedNanos;
+            if(started == 0 || now - started < limit) continue;
+
+            stalled.increment();
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(new IOException("Product stream send stalled for "
+                + TimeUnit.NANOSECONDS.toMillis(now - started) + "ms"));
+            subscriber.interruptSend(started);
+        }
+    }
+
+    public int getSubscriberCount(){
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry){
+        Gauge.builder("product.stream.subscribers", subscribers, Set::size)
+            .register(registry);
+        FunctionCounter.builder("product.stream.changes", received, LongAdder::sum)
+            .tag("result", "received")
+            .register(registry);
+        FunctionCounter.builder("product.stream.changes", coalesced, LongAdder::sum)
+            .tag("result", "coalesced")
+            .register(registry);
+        FunctionCounter.builder("product.stream.events", sent, LongAdder::sum)
+            .tag("result", "sent")
+            .register(registry);
+        FunctionCounter.builder("product.stream.events", superseded, LongAdder::sum)
+            .tag("result", "superseded")
+            .register(registry);
+        FunctionCounter.builder("product.stream.events", rejected, LongAdder::sum)
+            .tag("result", "rejected")
+            .register(registry);
+        FunctionCounter.builder("product.stream.events", stalled, LongAdder::sum)
+            .tag("result", "stalled")
+            .register(registry);
+    }
+
+    protected SseEmitter newEmitter(long timeoutMillis){
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // A subscriber with a send already queued or running just has its pending
+    // values overwritten; the running drain picks them up before it finishes.
+    private void schedule(Subscriber subscriber){
+        if(!subscriber.scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.scheduled.set(false);
+            rejected.increment();
+        }
+    }
+
+    private void drain(Subscriber subscriber){
+        try {
+            for(Long productId : subscriber.pending.keySet()){
+                ProductChangedEvent change = subscriber.pending.remove(productId);
+                if(change == null) continue;
+                subscriber.send(SseEmitter.event().name(EVENT_NAME).data(change, MediaType.APPLICATION_JSON));
+                sent.increment();
+            }
+            if(subscriber.heartbeatDue){
+                subscriber.heartbeatDue = false;
+                subscriber.send(SseEmitter.event().comment("keep-alive"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        if(subscriber.active && (!subscriber.pending.isEmpty() || subscriber.heartbeatDue)){
+            schedule(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber){
+        if(!subscribers.remove(subscriber)) return;
+        subscriber.active = false;
+        subscriber.pending.clear();
+        for(long id : subscriber.productIds){
+            subscribersByProduct.computeIfPresent(id, (key, watching) -> {
+                watching.remove(subscriber);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final long[] productIds;
+
+        private final Map<Long, ProductChangedEvent> pending = new ConcurrentHashMap<>();
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private volatile boolean heartbeatDue;
+
+        private volatile boolean active = true;
+
+        private volatile long sendStartedNanos;
+
+        private Thread sender;
+
+        private Subscriber(SseEmitter emitter, long[] productIds){
+            this.emitter = emitter;
+            this.productIds = productIds;
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized(this){
+                sender = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                // Clearing under the lock means an interrupt meant for this
+                // send can never leak into the pool thread's next task.
+                synchronized(this){
+                    sender = null;
+                    sendStartedNanos = 0;
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        private synchronized void interruptSend(long started){
+            if(sender != null && sendStartedNanos == started) sender.interrupt();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private Long productId;
+    private Integer stock;
+    private Double price;
+    private Date changedAt;
+
+    public static ProductChangedEvent of(Product product){
+        return new ProductChangedEvent(product.getId(), product.getStock(), product.getPrice(), new Date());
+    }
+}
@@ -1,8 +1,12 @@
 package com.lmelectronica.ecommerce.product;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,11 +17,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ProductPageDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateProductRequest;
+import com.lmelectronica.ecommerce.shared.exceptions.CapacityExceededException;
 import com.lmelectronica.ecommerce.shared.exceptions.EcommerceException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.exceptions.ServiceUnavailableException;
+import com.lmelectronica.ecommerce.shared.exceptions.ValidationException;
+import com.lmelectronica.ecommerce.shared.http.HttpCaching;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +36,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 
 
@@ -36,6 +47,14 @@ import lombok.AllArgsConstructor;
 public class ProductController {
     private final ProductService productService;
 
+    private final ProductPageService productPageService;
+
+    private final ProductReadCoalescer productReadCoalescer;
+
+    private final HttpCaching httpCaching;
+
+    private final ProductChangeBroadcaster productChangeBroadcaster;
+
     @Operation(summary="Create product",
                 description="Create a new product. ")
     @ApiResponses(value={
@@ -58,22 +77,85 @@ public class ProductController {
         }
     }
 
+    @Operation(summary="Get product page. ",
+                description="Retrieve a product together with its details, latest reviews, rating summary and favorite count. Sections that fail or time out are listed in 'unavailable'. ")
+    @ApiResponses(value={
+        @ApiResponse(responseCode="200",
+                    description="Product page retrieve successfully. ",
+                    content= @Content(schema= @Schema(implementation= ProductPageDTO.class))),
+        @ApiResponse(responseCode="404",
+                    description="Product not found. ",
+                    content= @Content),
+        @ApiResponse(responseCode="503",
+                    description="The product could not be loaded in time or the page pool is full. ",
+                    content= @Content)})
+    @GetMapping("/page")
+    public ResponseEntity<ProductPageDTO> getProductPage(
+        @Parameter(description="ID of the product. ")
+        @RequestParam Long id){
+        try {
+            return ResponseEntity.ok(productPageService.getProductPage(id));
+        } catch (ServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+        } catch (EcommerceException e) {
+            return  ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+    }
+
+    @Operation(summary="Stream product changes. ",
+                description="Server-Sent Events stream of stock and price changes for the given products, sent as '" + ProductChangeBroadcaster.EVENT_NAME + "' events. Bursts are coalesced, so each event carries the latest committed values. ")
+    @ApiResponses(value={
+        @ApiResponse(responseCode="200",
+                    description="Stream opened. ",
+                    content= @Content(mediaType= MediaType.TEXT_EVENT_STREAM_VALUE)),
+        @ApiResponse(responseCode="400",
+                    description="No product ids or too many of them. ",
+                    content= @Content),
+        @ApiResponse(responseCode="429",
+                    description="Subscriber limit reached. ",
+                    content= @Content)})
+    @GetMapping(value="/stream", produces=MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProductChanges(
+        @Parameter(description="IDs of the products to watch, comma separated. ")
+        @RequestParam List<Long> ids){
+        // EventSource clients only accept text/event-stream, which an error body
+        // cannot be written as, so rejections are sent as a bare status.
+        try {
+            return ResponseEntity.ok(productChangeBroadcaster.subscribe(ids));
+        } catch (ValidationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (CapacityExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+        }
+    }
+
     @Operation(summary="Get product by id. ",
                 description="Retrieve a product by its ID. ")
     @ApiResponses(value={
         @ApiResponse(responseCode="200",
                     description="Product retrieve successfully. ",
                     content= @Content(schema= @Schema(implementation= ProductDTO.class))),
+        @ApiResponse(responseCode="304",
+                    description="Not modified since the version in If-None-Match or If-Modified-Since. ",
+                    content= @Content),
         @ApiResponse(responseCode="404",
                     description="Product not found. ",
                     content= @Content)})
     @GetMapping("/by-id")
     public ResponseEntity<ProductDTO> getProductById(
         @Parameter(description="ID of the product. ")
-        @RequestParam Long id){
+        @RequestParam Long id,
+        HttpServletRequest request){
         try {
-            ProductDTO product = productService.getProductById(id);
-            return ResponseEntity.ok(product);
+            ResponseEntity<ProductDTO> notModified = httpCaching.notModified(request, () -> productService.getProductVersion(id));
+            if(notModified != null) return notModified;
+
+            ProductDTO product = productReadCoalescer.getProductById(id);
+            return httpCaching.ok(product, ProductService.versionOf(product), request);
         } catch (EcommerceException e) {
             return  ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -85,16 +167,23 @@ public class ProductController {
         @ApiResponse(responseCode="200",
                     description="Product retrieve successfully. ",
                     content= @Content(schema= @Schema(implementation= ProductDTO.class))),
+        @ApiResponse(responseCode="304",
+                    description="Not modified since the version in If-None-Match or If-Modified-Since. ",
+                    content= @Content),
         @ApiResponse(responseCode="404",
                     description="Product not found. ",
                     content= @Content)})
     @GetMapping("/by-name")
     public ResponseEntity<ProductDTO> getProductByName(
         @Parameter(description="Name of the product. ")
-        @RequestParam String name){
+        @RequestParam String name,
+        HttpServletRequest request){
         try {
-            ProductDTO product = productService.getProductByName(name);
-            return ResponseEntity.ok(product);
+            ResponseEntity<ProductDTO> notModified = httpCaching.notModified(request, () -> productService.getProductVersionByName(name));
+            if(notModified != null) return notModified;
+
+            ProductDTO product = productReadCoalescer.getProductByName(name);
+            return httpCaching.ok(product, ProductService.versionOf(product), request);
         } catch (EcommerceException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
@@ -121,14 +210,15 @@ public class ProductController {
             @Parameter(description = "Field to sort by (e.g., id, name, price)")
             @RequestParam(defaultValue = "id") String sortBy,
             @Parameter(description = "Sort direction: asc or desc")
-            @RequestParam(defaultValue = "asc") String direction) {
+            @RequestParam(defaultValue = "asc") String direction,
+            HttpServletRequest request) {
 
         Sort sort = "desc".equalsIgnoreCase(direction)
             ? Sort.by(sortBy).descending()
             : Sort.by(sortBy).ascending();
 
         Page<ProductDTO> products = productService.getAllProducts(page, size, sort);
-        return ResponseEntity.ok(products);
+        return httpCaching.ok(products, request);
     }
 
     @Operation(summary="Update product",
@@ -150,6 +240,7 @@ public class ProductController {
         @RequestParam Long id){
         try {
             productService.updateProduct(id, request);
+            productReadCoalescer.evict(id);
             return ResponseEntity.ok().build();
         } catch (EcommerceException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -172,6 +263,7 @@ public class ProductController {
         @RequestParam Long id){
         try {
             productService.deleteProduct(id);
+            productReadCoalescer.evict(id);
             return ResponseEntity.noContent().build();
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
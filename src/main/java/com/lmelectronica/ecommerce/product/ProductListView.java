@@ -0,0 +1,11 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.util.Date;
+
+public interface ProductListView {
+    String getName();
+    Double getPrice();
+    Integer getStock();
+    Date getCreatedAt();
+    String getDescription();
+}
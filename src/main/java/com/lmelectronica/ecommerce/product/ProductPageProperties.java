@@ -0,0 +1,24 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix="product-page")
+public class ProductPageProperties {
+
+    private int poolSize = 16;
+    private int queueCapacity = 200;
+    private int reviewPageSize = 5;
+
+    private Duration productTimeout = Duration.ofMillis(500);
+    private Duration detailsTimeout = Duration.ofMillis(400);
+    private Duration reviewsTimeout = Duration.ofMillis(400);
+    private Duration ratingTimeout = Duration.ofMillis(300);
+    private Duration favoritesTimeout = Duration.ofMillis(300);
+}
@@ -0,0 +1,141 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.lmelectronica.ecommerce.favorite.FavoriteService;
+import com.lmelectronica.ecommerce.productdetail.ProductDetailService;
+import com.lmelectronica.ecommerce.review.ReviewService;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDetailDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ProductPageDTO;
+import com.lmelectronica.ecommerce.shared.dtos.RatingSummaryDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ReviewDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.EcommerceException;
+import com.lmelectronica.ecommerce.shared.exceptions.ServiceUnavailableException;
+
+@Service
+public class ProductPageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPageService.class);
+
+    private final ProductReadCoalescer productReadCoalescer;
+
+    private final ProductDetailService productDetailService;
+
+    private final ReviewService reviewService;
+
+    private final FavoriteService favoriteService;
+
+    private final Executor executor;
+
+    private final ProductPageProperties properties;
+
+    public ProductPageService(ProductReadCoalescer productReadCoalescer,
+                            ProductDetailService productDetailService,
+                            ReviewService reviewService,
+                            FavoriteService favoriteService,
+                            @Qualifier("productPageExecutor") Executor executor,
+                            ProductPageProperties properties){
+        this.productReadCoalescer = productReadCoalescer;
+        this.productDetailService = productDetailService;
+        this.reviewService = reviewService;
+        this.favoriteService = favoriteService;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    public ProductPageDTO getProductPage(Long productId){
+        List<String> unavailable = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<ProductDTO> product = submit(
+            () -> productReadCoalescer.getProductById(productId), properties.getProductTimeout());
+
+        CompletableFuture<List<ProductDetailDTO>> details = optional("details",
+            () -> productDetailService.getDetailByProductId(productId), properties.getDetailsTimeout(), unavailable);
+
+        CompletableFuture<Page<ReviewDTO>> reviews = optional("reviews",
+            () -> reviewService.getReviewsByProductId(productId, 0, properties.getReviewPageSize(), Sort.by("createdAt").descending()),
+            properties.getReviewsTimeout(), unavailable);
+
+        CompletableFuture<RatingSummaryDTO> rating = optional("rating",
+            () -> reviewService.getRatingSummary(productId), properties.getRatingTimeout(), unavailable);
+
+        CompletableFuture<Long> favoriteCount = optional("favoriteCount",
+            () -> favoriteService.countFavoritesByProductId(productId), properties.getFavoritesTimeout(), unavailable);
+
+        CompletableFuture.allOf(details, reviews, rating, favoriteCount).join();
+
+        ProductPageDTO page = new ProductPageDTO();
+        page.setProduct(unwrap(product));
+        page.setDetails(details.join());
+        if(reviews.join() != null){
+            page.setReviews(reviews.join().getContent());
+            page.setTotalReviews(reviews.join().getTotalElements());
+        }
+        page.setRating(rating.join());
+        page.setFavoriteCount(favoriteCount.join());
+        page.setUnavailable(List.copyOf(unavailable));
+
+        return page;
+    }
+
+    private <T> CompletableFuture<T> optional(String section, Supplier<T> loader, Duration timeout, List<String> unavailable){
+        return submit(loader, timeout).exceptionally(ex -> {
+            log.warn("Product page section '{}' unavailable: {}", section, ex.toString());
+            unavailable.add(section);
+            return null;
+        });
+    }
+
+    // orTimeout only completes the future, so the task is cancelled as well:
+    // a queued one never starts and a running one is interrupted, which keeps
+    // abandoned loads from piling up in the bounded pool.
+    private <T> CompletableFuture<T> submit(Supplier<T> loader, Duration timeout){
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(loader.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException rejected) {
+            return CompletableFuture.failedFuture(rejected);
+        }
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((value, ex) -> {
+                if(ex instanceof TimeoutException) task.cancel(true);
+            });
+    }
+
+    private <T> T unwrap(CompletableFuture<T> future){
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof EcommerceException ecommerceException) throw ecommerceException;
+            if(cause instanceof TimeoutException) throw ServiceUnavailableException.productPageTimedOut();
+            if(cause instanceof RejectedExecutionException) throw ServiceUnavailableException.productPageBusy();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class ProductReadCoalescer implements MeterBinder {
+
+    private final ProductService productService;
+
+    private final long ttlMillis;
+
+    private final int maxEntries;
+
+    private final Map<Long, CompletableFuture<ProductDTO>> inFlightById = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<ProductDTO>> inFlightByName = new ConcurrentHashMap<>();
+
+    private final Map<Long, CachedProduct> cacheById = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedProduct> cacheByName = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    public ProductReadCoalescer(ProductService productService,
+                                @Value("${product.read-cache.ttl-ms:1000}") long ttlMillis,
+                                @Value("${product.read-cache.max-entries:10000}") int maxEntries){
+        this.productService = productService;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public ProductDTO getProductById(Long id){
+        return load(id, inFlightById, cacheById, () -> productService.getProductById(id));
+    }
+
+    public ProductDTO getProductByName(String name){
+        return load(name, inFlightByName, cacheByName, () -> productService.getProductByName(name));
+    }
+
+    public void evict(Long id){
+        generation.incrementAndGet();
+        cacheById.remove(id);
+        cacheByName.clear();
+    }
+
+    public long getExecutedLoads(){
+        return executed.sum();
+    }
+
+    public long getCoalescedLoads(){
+        return coalesced.sum();
+    }
+
+    public long getCacheHits(){
+        return cacheHits.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry){
+        FunctionCounter.builder("product.reads", executed, LongAdder::sum)
+            .tag("result", "executed")
+            .register(registry);
+        FunctionCounter.builder("product.reads", coalesced, LongAdder::sum)
+            .tag("result", "coalesced")
+            .register(registry);
+        FunctionCounter.builder("product.reads", cacheHits, LongAdder::sum)
+            .tag("result", "cache_hit")
+            .register(registry);
+    }
+
+    private <K> ProductDTO load(K key, Map<K, CompletableFuture<ProductDTO>> inFlight,
+                                Map<K, CachedProduct> cache, Supplier<ProductDTO> loader){
+        CachedProduct cached = cache.get(key);
+        if(cached != null && cached.expiresAt() > System.currentTimeMillis()){
+            cacheHits.increment();
+            return cached.product();
+        }
+
+        CompletableFuture<ProductDTO> call = new CompletableFuture<>();
+        CompletableFuture<ProductDTO> existing = inFlight.putIfAbsent(key, call);
+        if(existing != null){
+            coalesced.increment();
+            return await(existing);
+        }
+
+        long startGeneration = generation.get();
+        try {
+            executed.increment();
+            ProductDTO product = loader.get();
+            if(ttlMillis > 0 && generation.get() == startGeneration && hasRoom(cache)){
+                cache.put(key, new CachedProduct(product, System.currentTimeMillis() + ttlMillis));
+            }
+            call.complete(product);
+            return product;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private <K> boolean hasRoom(Map<K, CachedProduct> cache){
+        if(cache.size() < maxEntries) return true;
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        return cache.size() < maxEntries;
+    }
+
+    private ProductDTO await(CompletableFuture<ProductDTO> call){
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record CachedProduct(ProductDTO product, long expiresAt) {}
+}
@@ -2,12 +2,27 @@ package com.lmelectronica.ecommerce.product;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lmelectronica.ecommerce.shared.http.ResourceVersion;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     boolean existsByName(String name);
 
     Optional<Product> findByName(String name); 
+
+    @Query("SELECT p.name AS name, p.price AS price, p.stock AS stock, p.createdAt AS createdAt, p.description AS description FROM Product p")
+    Page<ProductListView> findListing(Pageable pageable);
+
+    @Query("SELECT new com.lmelectronica.ecommerce.shared.http.ResourceVersion(p.id, p.version, COALESCE(p.updatedAt, p.createdAt)) FROM Product p WHERE p.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.lmelectronica.ecommerce.shared.http.ResourceVersion(p.id, p.version, COALESCE(p.updatedAt, p.createdAt)) FROM Product p WHERE p.name = :name")
+    Optional<ResourceVersion> findVersionByName(@Param("name") String name);
 }
@@ -3,16 +3,21 @@ package com.lmelectronica.ecommerce.product;
 import java.util.Date;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.lmelectronica.ecommerce.config.ReplicaRead;
+import com.lmelectronica.ecommerce.outbox.OutboxService;
 import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateProductRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.http.ResourceVersion;
 
 import lombok.AllArgsConstructor;
 
@@ -25,6 +30,10 @@ public class ProductService {
 
     private final ModelMapper modelMapper;
 
+    private final OutboxService outboxService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     public ProductDTO createProduct(ProductDTO productDTO){
         if(productRepository.existsByName(productDTO.getName())){
             throw BusinessRuleException.duplicateResource("Product", "Name", productDTO.getName());
@@ -36,6 +45,7 @@ public class ProductService {
         return modelMapper.map(newProduct, ProductDTO.class);
     }
 
+    @Transactional(readOnly = true)
     public ProductDTO getProductById(Long id){
         Product productFound = productRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Product", id));
@@ -43,6 +53,7 @@ public class ProductService {
         return modelMapper.map(productFound, ProductDTO.class);
     }
 
+    @Transactional(readOnly = true)
     public ProductDTO getProductByName(String name){
         Product productFound = productRepository.findByName(name)
             .orElseThrow(() -> new ResourceNotFoundException("Product", name));
@@ -50,13 +61,38 @@ public class ProductService {
             return modelMapper.map(productFound, ProductDTO.class);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getProductVersion(Long id){
+        return productRepository.findVersionById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getProductVersionByName(String name){
+        return productRepository.findVersionByName(name)
+            .orElseThrow(() -> new ResourceNotFoundException("Product", name));
+    }
+
+    public static ResourceVersion versionOf(ProductDTO product){
+        Date lastModified = product.getUpdatedAt() != null ? product.getUpdatedAt() : product.getCreatedAt();
+        return new ResourceVersion(product.getId(), product.getVersion(), lastModified);
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public Page<ProductDTO> getAllProducts(int page, int size, Sort sort){
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Product> products = productRepository.findAll(pageable);
-
-        return products.map(product -> modelMapper.map(product, ProductDTO.class));
+        Page<ProductListView> products = productRepository.findListing(pageable);
+
+        return products.map(product -> new ProductDTO(
+            product.getName(),
+            product.getPrice(),
+            product.getStock() != null ? product.getStock() : 0,
+            product.getCreatedAt(),
+            product.getDescription()));
     }
     
+    @Transactional
     public void updateProduct(Long id, UpdateProductRequest request){
         Product productFound = productRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Product", id));
@@ -80,6 +116,9 @@ public class ProductService {
         productFound.setUpdatedAt(new Date());
 
         productRepository.save(productFound);
+
+        outboxService.productUpdated(productFound);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productFound));
     }
 
     public void deleteProduct(Long id){
@@ -0,0 +1,25 @@
+package com.lmelectronica.ecommerce.product;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix="product-stream")
+public class ProductStreamProperties {
+
+    private int poolSize = 4;
+    private int maxSubscribers = 50_000;
+    private int maxProductsPerSubscription = 50;
+
+    private long flushIntervalMs = 250;
+    private long heartbeatIntervalMs = 30_000;
+    private long stallCheckIntervalMs = 1000;
+
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration sendTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,3 @@
+package com.lmelectronica.ecommerce.productdetail;
+
+public record DetailsVersion(Long count, Long versions, Long lastId) {}
@@ -3,13 +3,18 @@ package com.lmelectronica.ecommerce.productdetail;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.lmelectronica.ecommerce.product.Product;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,17 +23,32 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name="products_details")
+@Table(name="products_details", indexes=@Index(name="idx_products_details_product", columnList="product_id"))
 public class ProductDetail {
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.TABLE, generator="products_details_ids")
+    @TableGenerator(name="products_details_ids", table="id_generators", pkColumnName="sequence_name",
+                    valueColumnName="next_val", pkColumnValue="products_details", allocationSize=50)
     private Long id;
     private String details;
     private String keyName;
+
+    @Column(nullable=false)
+    private Long version = 0L;
     
     @ManyToOne
     @JoinColumn(name="product_id", nullable=false)
     @JsonManagedReference("product-detail")
     private Product product;
+
+    @PrePersist
+    void initVersion(){
+        if(version == null) version = 0L;
+    }
+
+    @PreUpdate
+    void bumpVersion(){
+        version = version + 1;
+    }
 }
@@ -17,6 +17,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.lmelectronica.ecommerce.shared.dtos.ProductDetailDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateDetailRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.EcommerceException;
+import com.lmelectronica.ecommerce.shared.http.HttpCaching;
+import com.lmelectronica.ecommerce.shared.http.ResourceVersion;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +27,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 
 @Tag(name="Product detail", description="API that manages product details. ")
@@ -34,6 +37,8 @@ import lombok.AllArgsConstructor;
 public class ProductDetailController {
     private final ProductDetailService productDetailService;
 
+    private final HttpCaching httpCaching;
+
     @Operation(summary="Created product detail. ",
                 description="Created a new product detail. ")
     @ApiResponses(value={
@@ -65,16 +70,26 @@ public class ProductDetailController {
         @ApiResponse(responseCode="200",
                     description="Details retrieved successfully. ",
                     content= @Content(schema= @Schema(implementation= ProductDetailDTO.class))),
+        @ApiResponse(responseCode="304",
+                    description="Not modified since the version in If-None-Match or If-Modified-Since. ",
+                    content= @Content),
         @ApiResponse(responseCode="500",
                     description="Internal server error. ",
                     content= @Content)})
     @GetMapping("/by-product")
     public ResponseEntity<List<ProductDetailDTO>> getDetailsByProductId(
         @Parameter(description="Product ID of the owner of the details. ", required=true)
-        @RequestParam Long id){
+        @RequestParam Long id,
+        HttpServletRequest request){
+        // Versioned before loading, so a concurrent change can only make the
+        // tag older than the body and cost the client one extra download.
+        ResourceVersion version = productDetailService.getDetailsVersion(id);
+        ResponseEntity<List<ProductDetailDTO>> notModified = httpCaching.notModified(request, () -> version);
+        if(notModified != null) return notModified;
+
         List<ProductDetailDTO> details = productDetailService.getDetailByProductId(id);
         
-        return ResponseEntity.ok(details); 
+        return httpCaching.ok(details, version, request); 
     }
 
     @Operation(summary="Update detail. ", 
@@ -3,9 +3,16 @@ package com.lmelectronica.ecommerce.productdetail;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProductDetailRepository extends  JpaRepository<ProductDetail, Long>{
-    List<ProductDetail> findByProductId(Long productId);
+    @Query("SELECT d FROM ProductDetail d WHERE d.product.id = :productId")
+    List<ProductDetail> findByProductId(@Param("productId") Long productId);
+
+    // Any insert, update or delete changes at least one of the three: ids only grow.
+    @Query("SELECT new com.lmelectronica.ecommerce.productdetail.DetailsVersion(COUNT(d), COALESCE(SUM(d.version), 0L), COALESCE(MAX(d.id), 0L)) FROM ProductDetail d WHERE d.product.id = :productId")
+    DetailsVersion findVersionByProductId(@Param("productId") Long productId);
 }
@@ -10,6 +10,7 @@ import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.shared.dtos.ProductDetailDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateDetailRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.http.ResourceVersion;
 
 import lombok.AllArgsConstructor;
 
@@ -43,6 +44,11 @@ public class ProductDetailService {
                         .collect(Collectors.toList());
     }
 
+    public ResourceVersion getDetailsVersion(Long productId){
+        DetailsVersion version = pdRepository.findVersionByProductId(productId);
+        return new ResourceVersion(productId + "-" + version.count() + "-" + version.versions() + "-" + version.lastId(), null);
+    }
+
     public void updateDetail(Long detailId, UpdateDetailRequest request){
         ProductDetail detail = pdRepository.findById(detailId)
             .orElseThrow(() -> new ResourceNotFoundException("ProductDetail", detailId));
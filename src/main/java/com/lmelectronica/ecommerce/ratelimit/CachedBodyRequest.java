@@ -0,0 +1,65 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+// Lets the filter peek at a small request body and still hand it downstream.
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request) throws IOException {
+        super(request);
+        this.body = request.getInputStream().readAllBytes();
+    }
+
+    byte[] body(){
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream(){
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read(){ return in.read(); }
+
+            @Override
+            public int read(byte[] b, int off, int len){ return in.read(b, off, len); }
+
+            @Override
+            public boolean isFinished(){ return in.available() == 0; }
+
+            @Override
+            public boolean isReady(){ return true; }
+
+            @Override
+            public void setReadListener(ReadListener listener){
+                // The whole body is already in memory, so a non-blocking reader
+                // is told at once that it is available and then fully read.
+                try {
+                    listener.onDataAvailable();
+                    listener.onAllDataRead();
+                } catch (IOException e) {
+                    listener.onError(e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader(){
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -0,0 +1,131 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lmelectronica.ecommerce.config.JwtService;
+import com.lmelectronica.ecommerce.shared.exceptions.ErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the per-IP and per-user buckets of the first matching route group.
+ * Runs ahead of JWT authentication, so the user is taken from a bearer token
+ * when present and otherwise from the "username" field of a small JSON body
+ * (login and register).
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final RateLimitProperties properties;
+
+    private final JwtService jwtService;
+
+    private final ObjectMapper objectMapper;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, JwtService jwtService, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Map.Entry<String, RateLimitProperties.Group> group = properties.isEnabled() ? match(request) : null;
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest effectiveRequest = request;
+        String username = bearerUsername(request);
+        if (username == null && hasSmallJsonBody(request)) {
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            effectiveRequest = cached;
+            username = bodyUsername(cached.body());
+        }
+
+        String name = group.getKey();
+        long waitNanos = rateLimiter.tryAcquire(name, "ip", request.getRemoteAddr(), group.getValue().getIp());
+        if (waitNanos == 0) {
+            waitNanos = rateLimiter.tryAcquire(name, "user", username, group.getValue().getUser());
+        }
+
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(effectiveRequest, response);
+    }
+
+    private Map.Entry<String, RateLimitProperties.Group> match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            RateLimitProperties.Group group = entry.getValue();
+            if (!group.getMethods().isEmpty() && !group.getMethods().contains(request.getMethod())) continue;
+            for (String pattern : group.getPaths()) {
+                if (pathMatcher.match(pattern, path)) return entry;
+            }
+        }
+        return null;
+    }
+
+    private String bearerUsername(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) return null;
+        return jwtService.extractUsername(authHeader.substring(7));
+    }
+
+    private boolean hasSmallJsonBody(HttpServletRequest request) {
+        long length = request.getContentLengthLong();
+        String contentType = request.getContentType();
+        return length > 0 && length <= properties.getMaxBodyBytes()
+            && contentType != null && contentType.contains("json");
+    }
+
+    private String bodyUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() ? username.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .error("TOO_MANY_REQUESTS")
+            .message("Rate limit exceeded, retry in " + retryAfterSeconds + " seconds. ")
+            .path(request.getRequestURI())
+            .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,37 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix="rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxBuckets = 100_000;
+    private int maxBodyBytes = 4096;
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Data
+    public static class Group {
+        private List<String> paths = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+        private Limit ip = new Limit();
+        private Limit user = new Limit();
+    }
+
+    // A capacity of 0 turns the limit off.
+    @Data
+    public static class Limit {
+        private int capacity;
+        private double refillPerMinute;
+    }
+}
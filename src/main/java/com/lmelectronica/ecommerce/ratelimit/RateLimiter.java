@@ -0,0 +1,95 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds one token bucket per (route group, scope, key). Memory is bounded by
+ * dropping buckets that have refilled completely; when the table is still
+ * full, new keys share a single overflow bucket per group and scope rather
+ * than being let through unlimited.
+ */
+@Component
+public class RateLimiter {
+
+    static final String OVERFLOW_KEY = "*overflow*";
+
+    private static final long PURGE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxBuckets;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final Map<BucketKey, Counter> rejections = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastPurge = new AtomicLong(System.nanoTime() - PURGE_BACKOFF_NANOS);
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry){
+        this.maxBuckets = properties.getMaxBuckets();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("app.ratelimit.buckets", buckets, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 when the request may proceed,
+     * otherwise how many nanoseconds until the next token.
+     */
+    public long tryAcquire(String group, String scope, String key, RateLimitProperties.Limit limit){
+        if(limit.getCapacity() <= 0 || key == null) return 0;
+
+        long now = System.nanoTime();
+        TokenBucket bucket = bucketFor(new BucketKey(group, scope, key), limit, now);
+        long waitNanos = bucket.tryConsume(now);
+        if(waitNanos > 0){
+            rejections.computeIfAbsent(new BucketKey(group, scope, null), k -> Counter.builder("app.ratelimit.rejected")
+                .tag("group", group)
+                .tag("scope", scope)
+                .register(meterRegistry)).increment();
+        }
+        return waitNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval-ms:60000}")
+    public void purgeFullBuckets(){
+        long now = System.nanoTime();
+        lastPurge.set(now);
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int size(){
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(BucketKey key, RateLimitProperties.Limit limit, long now){
+        TokenBucket bucket = buckets.get(key);
+        if(bucket != null) return bucket;
+
+        if(buckets.size() >= maxBuckets && !purgeIfDue(now)){
+            key = new BucketKey(key.group(), key.scope(), OVERFLOW_KEY);
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now));
+    }
+
+    // Purging scans every bucket, so under a flood of new keys it runs at
+    // most once per backoff period. True when the purge made room.
+    private boolean purgeIfDue(long now){
+        long last = lastPurge.get();
+        if(now - last >= PURGE_BACKOFF_NANOS && lastPurge.compareAndSet(last, now)){
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return buckets.size() < maxBuckets;
+    }
+
+    private record BucketKey(String group, String scope, String key) {}
+}
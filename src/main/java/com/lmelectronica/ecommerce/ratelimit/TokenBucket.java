@@ -0,0 +1,49 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket whose state is swapped with compare-and-set, so concurrent
+ * requests for the same key never block each other.
+ */
+final class TokenBucket {
+
+    private static final long NO_REFILL_WAIT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final double capacity;
+
+    private final double refillPerNano;
+
+    private final AtomicReference<State> state;
+
+    TokenBucket(double capacity, double refillPerMinute, long nowNanos){
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    // 0 when a token was taken, otherwise the nanos until one is available.
+    long tryConsume(long nowNanos){
+        while(true){
+            State current = state.get();
+            double tokens = available(current, nowNanos);
+            if(tokens < 1){
+                return refillPerNano > 0 ? (long) Math.ceil((1 - tokens) / refillPerNano) : NO_REFILL_WAIT_NANOS;
+            }
+            if(state.compareAndSet(current, new State(tokens - 1, nowNanos))) return 0;
+        }
+    }
+
+    // A full bucket behaves exactly like a new one, so it can be dropped.
+    boolean isFull(long nowNanos){
+        return available(state.get(), nowNanos) >= capacity;
+    }
+
+    private double available(State current, long nowNanos){
+        long elapsed = Math.max(0, nowNanos - current.refilledAt());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+    }
+
+    private record State(double tokens, long refilledAt) {}
+}
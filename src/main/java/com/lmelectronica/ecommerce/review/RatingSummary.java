@@ -0,0 +1,6 @@
+package com.lmelectronica.ecommerce.review;
+
+public interface RatingSummary {
+    Double getAverage();
+    Long getCount();
+}
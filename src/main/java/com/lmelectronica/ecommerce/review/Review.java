@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name="reviews")
+@Table(name="reviews", indexes={
+    @Index(name="idx_reviews_product_created", columnList="product_id, created_at"),
+    @Index(name="idx_reviews_user_created", columnList="user_id, created_at")})
 public class Review {
 
     @Id
@@ -0,0 +1,8 @@
+package com.lmelectronica.ecommerce.review;
+
+public interface ReviewListView {
+    String getComment();
+    double getRating();
+    Long getProductId();
+    Long getUserId();
+}
@@ -5,14 +5,23 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.lmelectronica.ecommerce.user.User;
-
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByUserId(Long userId);
-    Page<Review> findByProductId(Long productId, Pageable pageable);
+    @Query("SELECT r FROM Review r WHERE r.user.id = :userId")
+    List<Review> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r.comment AS comment, r.rating AS rating, r.product.id AS productId, r.user.id AS userId "
+         + "FROM Review r WHERE r.product.id = :productId")
+    Page<ReviewListView> findListingByProductId(@Param("productId") Long productId, Pageable pageable);
+
+    @Query("SELECT r.comment AS comment, r.rating AS rating, r.product.id AS productId, r.user.id AS userId "
+         + "FROM Review r WHERE r.user.id = :userId")
+    Page<ReviewListView> findListingByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    Page<Review> findByUser(User user, Pageable pageable);
+    @Query("SELECT AVG(r.rating) AS average, COUNT(r) AS count FROM Review r WHERE r.product.id = :productId")
+    RatingSummary summarizeByProductId(@Param("productId") Long productId);
 }
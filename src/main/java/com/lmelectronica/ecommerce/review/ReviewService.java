@@ -7,15 +7,18 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.lmelectronica.ecommerce.config.ReplicaRead;
 import com.lmelectronica.ecommerce.product.Product;
 import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.shared.dtos.RatingSummaryDTO;
 import com.lmelectronica.ecommerce.shared.dtos.ReviewCreateDTO;
 import com.lmelectronica.ecommerce.shared.dtos.ReviewDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateReviewRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
 import com.lmelectronica.ecommerce.user.User;
-import com.lmelectronica.ecommerce.user.UserRepository;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 
 import lombok.AllArgsConstructor;
 
@@ -25,15 +28,14 @@ public class ReviewService {
 
     public final ReviewRepository reviewRepository;
 
-    public final UserRepository userRepository;
+    public final UserIdentityResolver userIdentityResolver;
 
     public final ProductRepository productRepository;
 
 
     @Transactional
     public ReviewDTO createReview(Long productId, String username, ReviewCreateDTO createDTO){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        User user = userIdentityResolver.reference(username);
         
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new ResourceNotFoundException("Product", productId));
@@ -56,32 +58,43 @@ public class ReviewService {
         return mapReviewDTO(foundReview);
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewDTO> getReviewsByUser(String username, int page, int size, Sort sort){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity user = userIdentityResolver.resolve(username);
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Review> reviews = reviewRepository.findByUser(user, pageable);
+        Page<ReviewListView> reviews = reviewRepository.findListingByUserId(user.id(), pageable);
 
         return reviews.map(review -> mapReviewDTO(review));
     }
 
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public Page<ReviewDTO> getReviewsByProductId(Long productId, int page, int size, Sort sort){        
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Review> reviews = reviewRepository.findByProductId(productId, pageable);
+        Page<ReviewListView> reviews = reviewRepository.findListingByProductId(productId, pageable);
 
         return reviews.map(review -> mapReviewDTO(review));
     }
 
+    @Transactional(readOnly = true)
+    public RatingSummaryDTO getRatingSummary(Long productId){
+        RatingSummary summary = reviewRepository.summarizeByProductId(productId);
+
+        double average = summary.getAverage() != null ? summary.getAverage() : 0.0;
+        long count = summary.getCount() != null ? summary.getCount() : 0L;
+
+        return new RatingSummaryDTO(average, count);
+    }
+
     public void updateReview(String username, Long reviewId, UpdateReviewRequest request){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity user = userIdentityResolver.resolve(username);
         
         Review foundReview = reviewRepository.findById(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review", reviewId));
 
-        if(!foundReview.getUser().getId().equals(user.getId())) throw new BusinessRuleException("You can only update your own reviews. ");
+        if(!foundReview.getUser().getId().equals(user.id())) throw new BusinessRuleException("You can only update your own reviews. ");
 
         if(request.getComment() != null){
             foundReview.setComment(request.getComment());
@@ -94,13 +107,12 @@ public class ReviewService {
     }
 
     public void deleteReview(String username, Long reviewId){
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+        UserIdentity user = userIdentityResolver.resolve(username);
 
         Review foundReview = reviewRepository.findById(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review", reviewId));
         
-        if(!foundReview.getUser().getId().equals(user.getId())) throw new BusinessRuleException("You can only delete your own reviews. ");
+        if(!foundReview.getUser().getId().equals(user.id())) throw new BusinessRuleException("You can only delete your own reviews. ");
         
         reviewRepository.delete(foundReview); 
     } 
@@ -115,4 +127,8 @@ public class ReviewService {
 
         return dto;
     }
+
+    public ReviewDTO mapReviewDTO(ReviewListView review){
+        return new ReviewDTO(review.getComment(), review.getRating(), review.getProductId(), review.getUserId());
+    }
 }
@@ -15,6 +15,7 @@ public class AuthResponse {
     private String email;
     private Role role;
     private String message;
+    private String refreshToken;
 
     public AuthResponse(String token, String username, String email, Role role){
         this.token = token;
@@ -23,6 +24,11 @@ public class AuthResponse {
         this.role = role;
     }
 
+    public AuthResponse(String token, String refreshToken, String username, String email, Role role){
+        this(token, username, email, role);
+        this.refreshToken = refreshToken;
+    }
+
     public AuthResponse(String message){
         this.message = message;
     }
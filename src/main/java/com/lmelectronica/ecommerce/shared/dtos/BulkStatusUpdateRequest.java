@@ -0,0 +1,17 @@
+package com.lmelectronica.ecommerce.shared.dtos;
+
+import java.util.List;
+
+import com.lmelectronica.ecommerce.order.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateRequest {
+    private List<Long> orderIds;
+    private Status targetStatus;
+}
@@ -0,0 +1,17 @@
+package com.lmelectronica.ecommerce.shared.dtos;
+
+import com.lmelectronica.ecommerce.order.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusUpdateResponse {
+    private Status targetStatus;
+    private int moved;
+    private int skipped;
+    private int rejected;
+}
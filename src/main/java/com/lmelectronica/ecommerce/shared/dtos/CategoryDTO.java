@@ -1,14 +1,24 @@
 package com.lmelectronica.ecommerce.shared.dtos;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class CategoryDTO {
 
     private String name;
     private String description;
+
+    @JsonIgnore
+    private Long id;
+    @JsonIgnore
+    private Long version;
+
+    public CategoryDTO(String name, String description){
+        this.name = name;
+        this.description = description;
+    }
 }
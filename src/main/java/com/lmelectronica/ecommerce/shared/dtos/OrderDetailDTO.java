@@ -0,0 +1,21 @@
+package com.lmelectronica.ecommerce.shared.dtos;
+
+import java.util.List;
+
+import com.lmelectronica.ecommerce.order.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderDetailDTO {
+    private Long id;
+    private String billingAddress;
+    private Status status;
+    private Long userId;
+    private double totalAmount;
+    private List<OrderItemDTO> items;
+}
@@ -8,5 +8,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class OrderItemDTO {
+    private Long id;
     private int quantity;
+    private double price;
+    private double lineTotal;
+    private Long productId;
+    private String productName;
 }
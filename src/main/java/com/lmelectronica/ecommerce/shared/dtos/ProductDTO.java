@@ -2,17 +2,34 @@ package com.lmelectronica.ecommerce.shared.dtos;
 
 import java.util.Date;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class ProductDTO {
     private String name;
     private Double price;
     private int stock;
     private Date createdAt = new Date();
     private String description;
+
+    // Carried with the body so the ETag always describes the copy being sent,
+    // including one served from the read cache.
+    @JsonIgnore
+    private Long id;
+    @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private Date updatedAt;
+
+    public ProductDTO(String name, Double price, int stock, Date createdAt, String description){
+        this.name = name;
+        this.price = price;
+        this.stock = stock;
+        this.createdAt = createdAt;
+        this.description = description;
+    }
 }
@@ -0,0 +1,21 @@
+package com.lmelectronica.ecommerce.shared.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductPageDTO {
+    private ProductDTO product;
+    private List<ProductDetailDTO> details;
+    private List<ReviewDTO> reviews;
+    private long totalReviews;
+    private RatingSummaryDTO rating;
+    private Long favoriteCount;
+    private List<String> unavailable = new ArrayList<>();
+}
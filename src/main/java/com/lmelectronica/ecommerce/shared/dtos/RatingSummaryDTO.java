@@ -0,0 +1,13 @@
+package com.lmelectronica.ecommerce.shared.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingSummaryDTO {
+    private double average;
+    private long count;
+}
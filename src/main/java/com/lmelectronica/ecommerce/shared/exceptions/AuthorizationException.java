@@ -12,4 +12,8 @@ public class AuthorizationException extends EcommerceException{
     public static AuthorizationException invalidCredentials(){
         return new AuthorizationException("Invalid username or password. ");
     }
+
+    public static AuthorizationException invalidToken(){
+        return new AuthorizationException("Invalid or expired token. ");
+    }
 }
@@ -5,19 +5,25 @@ public class BusinessRuleException extends EcommerceException{
         super(message);
     }
 
+    private BusinessRuleException(String template, Object... args){
+        super(template, args);
+    }
+
     public static BusinessRuleException insufficentStock(String productName, int requestId, int available){
-        return new BusinessRuleException(
-            String.format("Insufficent stock for '%s'. Requested: %d, Available: %d", 
-                productName, requestId, available    
-            )
+        return new BusinessRuleException("Insufficent stock for '%s'. Requested: %d, Available: %d",
+            productName, requestId, available
         );
     }
 
     public static BusinessRuleException duplicateResource(String resource, String field, Object value){
-        return new BusinessRuleException(
-            String.format("%s with %s '%s' already exists. ",
-                resource, field, value
-            )
+        return new BusinessRuleException("%s with %s '%s' already exists. ",
+            resource, field, value
+        );
+    }
+
+    public static BusinessRuleException invalidStatusTransition(Object from, Object to, Object allowed){
+        return new BusinessRuleException("Order status cannot change from '%s' to '%s'. Allowed: %s",
+            from, to, allowed
         );
     }
 
@@ -0,0 +1,15 @@
+package com.lmelectronica.ecommerce.shared.exceptions;
+
+public class CapacityExceededException extends EcommerceException{
+    public CapacityExceededException(String message){
+        super(message);
+    }
+
+    public static CapacityExceededException passwordHashing(){
+        return new CapacityExceededException("Too many authentication requests, please retry shortly. ");
+    }
+
+    public static CapacityExceededException productStream(){
+        return new CapacityExceededException("Too many product stream subscribers, please retry shortly. ");
+    }
+}
@@ -1,11 +1,48 @@
 package com.lmelectronica.ecommerce.shared.exceptions;
 
+/**
+ * Expected domain outcomes such as a missing product or a duplicate favorite.
+ * They are thrown on routine paths and mapped straight to a response, so no
+ * stack trace is captured unless a cause is wrapped, and templated messages
+ * are only formatted when read. Because that can happen after the transaction
+ * has closed, template arguments must be immutable values such as ids, names
+ * or enums, never entities.
+ */
 public abstract class EcommerceException extends RuntimeException{
+
+    private final String template;
+
+    private final Object[] args;
+
+    private String message;
+
     public EcommerceException(String message){
-        super(message);
+        super(null, null, true, false);
+        this.template = null;
+        this.args = null;
+        this.message = message;
+    }
+
+    protected EcommerceException(String template, Object... args){
+        super(null, null, true, false);
+        this.template = template;
+        this.args = args;
     }
 
     public EcommerceException(String message, Throwable cause){
         super(message, cause);
+        this.template = null;
+        this.args = null;
+        this.message = message;
+    }
+
+    @Override
+    public String getMessage(){
+        String formatted = message;
+        if(formatted == null && template != null){
+            formatted = String.format(template, args);
+            message = formatted;
+        }
+        return formatted;
     }
 }
@@ -0,0 +1,15 @@
+package com.lmelectronica.ecommerce.shared.exceptions;
+
+public class ServiceUnavailableException extends EcommerceException{
+    public ServiceUnavailableException(String message){
+        super(message);
+    }
+
+    public static ServiceUnavailableException productPageTimedOut(){
+        return new ServiceUnavailableException("The product could not be loaded in time, please retry shortly. ");
+    }
+
+    public static ServiceUnavailableException productPageBusy(){
+        return new ServiceUnavailableException("Too many product page requests, please retry shortly. ");
+    }
+}
@@ -2,7 +2,7 @@ package com.lmelectronica.ecommerce.shared.exceptions;
 
 public class ValidationException extends EcommerceException {
     public ValidationException(String field, String message){
-        super(String.format("Validation failed for field '%s': '%s'", field, message));
+        super("Validation failed for field '%s': '%s'", field, message);
     }
 
     public ValidationException(String message){
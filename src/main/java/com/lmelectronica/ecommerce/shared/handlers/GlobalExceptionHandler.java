@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -13,8 +14,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.lmelectronica.ecommerce.shared.exceptions.AuthorizationException;
 import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
+import com.lmelectronica.ecommerce.shared.exceptions.CapacityExceededException;
 import com.lmelectronica.ecommerce.shared.exceptions.ErrorResponse;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.exceptions.ServiceUnavailableException;
+import com.lmelectronica.ecommerce.shared.exceptions.ValidationException;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -25,8 +29,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleResourceNotFound(
             ResourceNotFoundException ex, HttpServletRequest request) {
         return buildErrorResponse(
-            HttpStatus.NOT_FOUND,
-            "RESOURCE_NOT_FOUND",
+            ErrorCode.RESOURCE_NOT_FOUND,
             ex.getMessage(),
             request
         );
@@ -36,8 +39,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleBusinessRule(
             BusinessRuleException ex, HttpServletRequest request) {
         return buildErrorResponse(
-            HttpStatus.CONFLICT,
-            "BUSINESS_RULE_VIOLATED",
+            ErrorCode.BUSINESS_RULE_VIOLATED,
             ex.getMessage(),
             request
         );
@@ -47,8 +49,43 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleAuthorization(
             AuthorizationException ex, HttpServletRequest request) {
         return buildErrorResponse(
-            HttpStatus.UNAUTHORIZED,
-            "AUTHORIZATION_ERROR",
+            ErrorCode.AUTHORIZATION_ERROR,
+            ex.getMessage(),
+            request
+        );
+    }
+    
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleCapacityExceeded(
+            CapacityExceededException ex, HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(
+            ErrorCode.TOO_MANY_REQUESTS,
+            ex.getMessage(),
+            request
+        );
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(response.getBody());
+    }
+    
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex, HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(
+            ErrorCode.SERVICE_UNAVAILABLE,
+            ex.getMessage(),
+            request
+        );
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(response.getBody());
+    }
+    
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(
+            ValidationException ex, HttpServletRequest request) {
+        return buildErrorResponse(
+            ErrorCode.VALIDATION_ERROR,
             ex.getMessage(),
             request
         );
@@ -80,8 +117,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, HttpServletRequest request) {
         return buildErrorResponse(
-            HttpStatus.INTERNAL_SERVER_ERROR,
-            "INTERNAL_SERVER_ERROR",
+            ErrorCode.INTERNAL_SERVER_ERROR,
             "An unexpected error occurred",
             request
         );
@@ -91,24 +127,39 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleAccessDenied(
             AccessDeniedException ex, HttpServletRequest request) {
         return buildErrorResponse(
-            HttpStatus.FORBIDDEN,
-            "ACCESS_DENIED",
+            ErrorCode.ACCESS_DENIED,
             "You do not have permission to perform this action",
             request
         );
     }
     
     private ResponseEntity<ErrorResponse> buildErrorResponse(
-            HttpStatus status, String errorCode, String message, HttpServletRequest request) {
+            ErrorCode errorCode, String message, HttpServletRequest request) {
 
-                ErrorResponse errorResponse = ErrorResponse.builder()
-            .timestamp(LocalDateTime.now())
-            .status(status.value())
-            .error(errorCode)
-            .message(message)
-            .path(request.getRequestURI())
-            .build();
-            
-        return ResponseEntity.status(status).body(errorResponse);
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), errorCode.value,
+            errorCode.name(), message, null, request.getRequestURI());
+
+        return ResponseEntity.status(errorCode.status).body(errorResponse);
+    }
+
+    // Status and code resolved once rather than per response on the hot 404/409 paths.
+    private enum ErrorCode {
+        RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND),
+        BUSINESS_RULE_VIOLATED(HttpStatus.CONFLICT),
+        AUTHORIZATION_ERROR(HttpStatus.UNAUTHORIZED),
+        TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS),
+        SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE),
+        VALIDATION_ERROR(HttpStatus.BAD_REQUEST),
+        ACCESS_DENIED(HttpStatus.FORBIDDEN),
+        INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        private final HttpStatus status;
+
+        private final int value;
+
+        ErrorCode(HttpStatus status){
+            this.status = status;
+            this.value = status.value();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.lmelectronica.ecommerce.shared.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix="http-cache")
+public class HttpCacheProperties {
+
+    private Map<String, Policy> groups = new LinkedHashMap<>();
+
+    // Unset durations are left out of the header. Policies are private unless
+    // marked shared; only mark routes shared that are PERMIT_ALL, since a CDN
+    // would otherwise hand authenticated responses to anonymous callers.
+    @Data
+    public static class Policy {
+        private List<String> paths = new ArrayList<>();
+        private boolean shared;
+        private Duration maxAge = Duration.ZERO;
+        private Duration sharedMaxAge;
+        private Duration staleWhileRevalidate;
+    }
+}
@@ -0,0 +1,149 @@
+package com.lmelectronica.ecommerce.shared.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Conditional GET and Cache-Control for read endpoints. The current version
+ * is only looked up when the client sent a validator, and a match is answered
+ * with 304 before the resource is loaded. Cache-Control comes from the first
+ * http-cache group whose paths match the request.
+ *
+ * The same resource can be written as JSON, CBOR or Smile depending on
+ * Accept, so responses vary on Accept and binary representations get the
+ * format appended to their ETag.
+ */
+@Component
+public class HttpCaching {
+
+    private static final Map<MediaType, String> BINARY_VARIANTS = Map.of(
+        MediaType.APPLICATION_CBOR, "cbor",
+        MediaType.parseMediaType("application/x-jackson-smile"), "smile");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    private final List<Map.Entry<String, CacheControl>> policies = new ArrayList<>();
+
+    public HttpCaching(HttpCacheProperties properties, ContentNegotiationManager contentNegotiationManager){
+        this.contentNegotiationManager = contentNegotiationManager;
+        properties.getGroups().values().forEach(policy -> {
+            CacheControl cacheControl = compile(policy);
+            policy.getPaths().forEach(path -> policies.add(Map.entry(path, cacheControl)));
+        });
+    }
+
+    // Returns null when the client's copy is stale or it sent no validator.
+    public <T> ResponseEntity<T> notModified(HttpServletRequest request, Supplier<ResourceVersion> currentVersion){
+        if(request.getHeader(HttpHeaders.IF_NONE_MATCH) == null && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null){
+            return null;
+        }
+
+        ResourceVersion current = currentVersion.get();
+        if(!matches(current, etag(current, request), request)) return null;
+
+        return headers(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current, request).build();
+    }
+
+    public <T> ResponseEntity<T> ok(T body, ResourceVersion version, HttpServletRequest request){
+        return headers(ResponseEntity.ok(), version, request).body(body);
+    }
+
+    public <T> ResponseEntity<T> ok(T body, HttpServletRequest request){
+        return headers(ResponseEntity.ok(), null, request).body(body);
+    }
+
+    public CacheControl cacheControl(HttpServletRequest request){
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for(Map.Entry<String, CacheControl> policy : policies){
+            if(pathMatcher.match(policy.getKey(), path)) return policy.getValue();
+        }
+        return null;
+    }
+
+    private ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder builder, ResourceVersion version, HttpServletRequest request){
+        CacheControl cacheControl = cacheControl(request);
+        if(cacheControl != null) builder.cacheControl(cacheControl);
+        builder.varyBy(HttpHeaders.ACCEPT);
+        if(version != null){
+            builder.eTag(etag(version, request));
+            if(version.lastModified() != null) builder.lastModified(version.lastModified().getTime());
+        }
+        return builder;
+    }
+
+    // If-None-Match takes precedence; If-Modified-Since is only consulted
+    // without it, and compared at the one-second precision of HTTP dates.
+    private static boolean matches(ResourceVersion current, String etag, HttpServletRequest request){
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if(ifNoneMatch != null){
+            for(String candidate : ifNoneMatch.split(",")){
+                String tag = candidate.trim();
+                if(tag.startsWith("W/")) tag = tag.substring(2);
+                if(tag.equals("*") || tag.equals(etag)) return true;
+            }
+            return false;
+        }
+
+        if(current.lastModified() == null) return false;
+        long since;
+        try {
+            since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return since >= 0 && current.lastModified().getTime() / 1000 <= since / 1000;
+    }
+
+    private String etag(ResourceVersion version, HttpServletRequest request){
+        String variant = variant(request);
+        return variant == null ? version.etag() : version.etag(variant);
+    }
+
+    // Mirrors converter selection: the first acceptable type that JSON
+    // satisfies wins, wildcards included, so only explicit binary requests
+    // get a variant.
+    private String variant(HttpServletRequest request){
+        List<MediaType> accepted;
+        try {
+            accepted = contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+        for(MediaType type : accepted){
+            if(type.includes(MediaType.APPLICATION_JSON)) return null;
+            for(Map.Entry<MediaType, String> binary : BINARY_VARIANTS.entrySet()){
+                if(type.includes(binary.getKey())) return binary.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static CacheControl compile(HttpCacheProperties.Policy policy){
+        CacheControl cacheControl = CacheControl.maxAge(policy.getMaxAge());
+        if(!policy.isShared()){
+            cacheControl = cacheControl.cachePrivate();
+        } else {
+            cacheControl = cacheControl.cachePublic();
+            if(policy.getSharedMaxAge() != null) cacheControl = cacheControl.sMaxAge(policy.getSharedMaxAge());
+        }
+        if(policy.getStaleWhileRevalidate() != null) cacheControl = cacheControl.staleWhileRevalidate(policy.getStaleWhileRevalidate());
+        return cacheControl;
+    }
+}
@@ -0,0 +1,27 @@
+package com.lmelectronica.ecommerce.shared.http;
+
+import java.util.Date;
+
+/**
+ * What a strong ETag and Last-Modified are derived from. Built straight from
+ * version-only queries, so a conditional GET can be answered without loading
+ * or mapping the resource.
+ */
+public record ResourceVersion(String tag, Date lastModified) {
+
+    public ResourceVersion(Long id, Long version, Date lastModified){
+        this(id + "-" + version, lastModified);
+    }
+
+    public ResourceVersion(Long id, Long version){
+        this(id, version, null);
+    }
+
+    public String etag(){
+        return "\"" + tag + "\"";
+    }
+
+    public String etag(String variant){
+        return "\"" + tag + "-" + variant + "\"";
+    }
+}
@@ -0,0 +1,53 @@
+package com.lmelectronica.ecommerce.shared.querycount;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class QueryCount {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QueryCount parent;
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    private int total;
+
+    QueryCount(QueryCount parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql) {
+        String shape = shapeOf(sql);
+        for (QueryCount scope = this; scope != null; scope = scope.parent) {
+            scope.total++;
+            scope.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    QueryCount parent() {
+        return parent;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return Map.copyOf(shapes);
+    }
+
+    public Map.Entry<String, Integer> mostRepeated() {
+        return shapes.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .orElse(null);
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(collapsed).replaceAll("(?...)");
+    }
+}
@@ -0,0 +1,55 @@
+package com.lmelectronica.ecommerce.shared.querycount;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final int warnThreshold;
+
+    private final int repeatThreshold;
+
+    public QueryCountFilter(@Value("${query-count.warn-threshold:20}") int warnThreshold,
+                            @Value("${query-count.repeat-threshold:5}") int repeatThreshold) {
+        this.warnThreshold = warnThreshold;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCount count = QueryCountHolder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountHolder.stop(count);
+            report(request, count);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCount count) {
+        Map.Entry<String, Integer> repeated = count.mostRepeated();
+        if (repeated == null) return;
+        if (count.getTotal() > warnThreshold || repeated.getValue() >= repeatThreshold) {
+            log.warn("{} {} issued {} SQL statements; most repeated ({}x): {}",
+                request.getMethod(), request.getRequestURI(), count.getTotal(), repeated.getValue(), repeated.getKey());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lmelectronica.ecommerce.shared.querycount;
+
+/**
+ * Thread-bound SQL statement counters. Scopes nest, so a test can wrap a
+ * MockMvc call while the request filter opens its own scope underneath;
+ * every statement is counted in all enclosing scopes.
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    public static QueryCount start() {
+        QueryCount count = new QueryCount(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+
+    public static void stop(QueryCount count) {
+        if (CURRENT.get() != count) return;
+        if (count.parent() == null) CURRENT.remove();
+        else CURRENT.set(count.parent());
+    }
+
+    static void record(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null) count.record(sql);
+    }
+}
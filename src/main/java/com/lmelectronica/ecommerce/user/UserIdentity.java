@@ -0,0 +1,8 @@
+package com.lmelectronica.ecommerce.user;
+
+public record UserIdentity(Long id, String username, Role role) {
+
+    public String authority(){
+        return "ROLE_" + role.name().toUpperCase();
+    }
+}
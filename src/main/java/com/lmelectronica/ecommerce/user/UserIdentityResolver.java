@@ -0,0 +1,101 @@
+package com.lmelectronica.ecommerce.user;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Resolves a username to its id and role without loading the {@link User}
+ * entity. Entries are bounded by count and TTL and evicted locally when an
+ * account is changed or deleted; the TTL bounds staleness on other nodes, so
+ * it is kept short: until it lapses there, a deleted user still resolves and
+ * a write through {@link #reference} fails on its foreign key.
+ */
+@Component
+public class UserIdentityResolver implements MeterBinder {
+
+    private final UserRepository userRepository;
+
+    private final long ttlMillis;
+
+    private final int maxEntries;
+
+    private final Map<String, CachedIdentity> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public UserIdentityResolver(UserRepository userRepository,
+                                @Value("${user.identity-cache.ttl-ms:30000}") long ttlMillis,
+                                @Value("${user.identity-cache.max-entries:10000}") int maxEntries){
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public UserIdentity resolve(String username){
+        CachedIdentity cached = cache.get(username);
+        if(cached != null && cached.expiresAt() > System.currentTimeMillis()){
+            hits.increment();
+            return cached.identity();
+        }
+
+        misses.increment();
+        long startGeneration = generation.get();
+        UserIdentity identity = userRepository.findIdentityByUsername(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User", username));
+
+        if(ttlMillis > 0 && hasRoom()){
+            // Checked inside compute so an evict for this name, which takes
+            // the same bin lock, either lands first and blocks the insert or
+            // lands after and removes it.
+            cache.compute(username, (key, current) -> generation.get() == startGeneration
+                ? new CachedIdentity(identity, System.currentTimeMillis() + ttlMillis)
+                : current);
+        }
+        return identity;
+    }
+
+    public User reference(String username){
+        return userRepository.getReferenceById(resolve(username).id());
+    }
+
+    public void evict(String username){
+        cache.compute(username, (key, current) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry){
+        FunctionCounter.builder("user.identity.lookups", hits, LongAdder::sum)
+            .tag("result", "cache_hit")
+            .register(registry);
+        FunctionCounter.builder("user.identity.lookups", misses, LongAdder::sum)
+            .tag("result", "miss")
+            .register(registry);
+    }
+
+    private boolean hasRoom(){
+        if(cache.size() < maxEntries) return true;
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        return cache.size() < maxEntries;
+    }
+
+    private record CachedIdentity(UserIdentity identity, long expiresAt) {}
+}
@@ -3,6 +3,9 @@ package com.lmelectronica.ecommerce.user;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +15,11 @@ public interface UserRepository extends JpaRepository<User, Long>{
 
     Optional<User> findByUsername(String username);
     User findByEmail(String email);
+
+    @Query("SELECT new com.lmelectronica.ecommerce.user.UserIdentity(u.id, u.username, u.role) FROM User u WHERE u.username = :username")
+    Optional<UserIdentity> findIdentityByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
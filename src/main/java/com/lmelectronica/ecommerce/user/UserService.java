@@ -1,9 +1,10 @@
 package com.lmelectronica.ecommerce.user;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.lmelectronica.ecommerce.auth.TokenRevocationList;
 import com.lmelectronica.ecommerce.shared.dtos.ChangePasswordRequest;
 import com.lmelectronica.ecommerce.shared.dtos.DeleteRequest;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateUserDTO;
@@ -17,12 +18,16 @@ import lombok.AllArgsConstructor;
 @Service
 public class UserService {
 
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
 
     private final ModelMapper modelMapper;
 
     private final UserRepository userRepository;
 
+    private final UserIdentityResolver userIdentityResolver;
+
+    private final TokenRevocationList tokenRevocationList;
+
     private UserDTO toDTO(User user){
         return modelMapper.map(user, UserDTO.class);
     }
@@ -54,6 +59,7 @@ public class UserService {
         }
 
         User userSaved = userRepository.save(userFound);
+        userIdentityResolver.evict(username);
 
         return toDTO(userSaved);
     }
@@ -66,5 +72,7 @@ public class UserService {
             throw AuthorizationException.invalidCredentials();
         }
         userRepository.delete(userFound);
+        userIdentityResolver.evict(username);
+        tokenRevocationList.revokeSubject(username);
     }
 }
@@ -0,0 +1,118 @@
+-- Schema as previously generated by Hibernate from the entity mappings.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    role VARCHAR(32),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE address (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    street VARCHAR(255),
+    number VARCHAR(255),
+    city VARCHAR(255),
+    postal_code VARCHAR(255),
+    province VARCHAR(255),
+    other_info VARCHAR(255),
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_address_user UNIQUE (user_id),
+    CONSTRAINT fk_address_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE categories (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    parent_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_categories_parent FOREIGN KEY (parent_id) REFERENCES categories (id)
+);
+
+CREATE TABLE products (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    price DOUBLE PRECISION,
+    stock INTEGER,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    description VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE product_category (
+    product_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    CONSTRAINT fk_product_category_product FOREIGN KEY (product_id) REFERENCES products (id),
+    CONSTRAINT fk_product_category_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE products_details (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    details VARCHAR(255),
+    key_name VARCHAR(255),
+    product_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_products_details_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE reviews (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    comment VARCHAR(255),
+    created_at DATETIME(6),
+    rating DOUBLE PRECISION NOT NULL,
+    product_id BIGINT,
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reviews_product FOREIGN KEY (product_id) REFERENCES products (id),
+    CONSTRAINT fk_reviews_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE favorites (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    user_id BIGINT,
+    product_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_favorites_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_favorites_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE orders (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    billing_address VARCHAR(255),
+    created_at DATETIME(6),
+    status TINYINT,
+    total_amount DOUBLE PRECISION NOT NULL,
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE orders_items (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    quantity INTEGER NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    order_id BIGINT,
+    product_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_items_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_orders_items_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(255),
+    aggregate_id BIGINT,
+    event_type VARCHAR(32),
+    payload VARCHAR(2000),
+    created_at DATETIME(6),
+    published_at DATETIME(6),
+    PRIMARY KEY (id)
+);
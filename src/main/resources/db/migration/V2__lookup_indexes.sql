@@ -0,0 +1,18 @@
+CREATE UNIQUE INDEX uk_users_username ON users (username);
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+CREATE UNIQUE INDEX uk_products_name ON products (name);
+CREATE UNIQUE INDEX uk_categories_name ON categories (name);
+
+CREATE UNIQUE INDEX uk_favorites_user_product ON favorites (user_id, product_id);
+CREATE INDEX idx_favorites_product ON favorites (product_id);
+
+CREATE INDEX idx_reviews_product_created ON reviews (product_id, created_at);
+CREATE INDEX idx_reviews_user_created ON reviews (user_id, created_at);
+
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at);
+CREATE INDEX idx_orders_items_order ON orders_items (order_id);
+
+CREATE INDEX idx_products_details_product ON products_details (product_id);
+
+CREATE INDEX idx_outbox_events_published ON outbox_events (published_at, id);
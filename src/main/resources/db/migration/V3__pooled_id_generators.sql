@@ -0,0 +1,18 @@
+-- Pooled table-based id allocation for entities written in bulk. Each row
+-- starts one allocation block (50) past the current maximum id so the first
+-- block handed out never overlaps rows inserted under IDENTITY.
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'orders_items', COALESCE(MAX(id), 0) + 51 FROM orders_items;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'favorites', COALESCE(MAX(id), 0) + 51 FROM favorites;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'products_details', COALESCE(MAX(id), 0) + 51 FROM products_details;
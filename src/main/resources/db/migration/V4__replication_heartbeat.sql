@@ -0,0 +1,10 @@
+-- Single-row heartbeat written on the primary and read back from the replica.
+-- The age of the replicated value is the replication lag seen by the app.
+
+CREATE TABLE replication_heartbeat (
+    id INT NOT NULL,
+    beat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP);
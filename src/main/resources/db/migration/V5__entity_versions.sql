@@ -0,0 +1,6 @@
+-- Revision counters behind the ETags of catalog reads. Bumped by the entities
+-- on every update; not used for optimistic locking.
+
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE products_details ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,83 @@
+package com.lmelectronica.ecommerce.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "password-hashing.strength=4")
+@AutoConfigureMockMvc
+public class RefreshTokenFlowTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void refresh_rotatesTokens_reuseRevokesSession() throws Exception {
+        String username = "refresh_" + System.nanoTime();
+        JsonNode registered = json(mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"secret\"}"))
+            .andExpect(status().isOk())
+            .andReturn());
+
+        String firstRefresh = registered.get("refreshToken").asText();
+        mockMvc.perform(get("/favorites/by-user").header("Authorization", "Bearer " + registered.get("token").asText()))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/favorites/by-user").header("Authorization", "Bearer " + firstRefresh))
+            .andExpect(status().isForbidden());
+
+        JsonNode rotated = json(mockMvc.perform(refresh(firstRefresh)).andExpect(status().isOk()).andReturn());
+        String accessToken = rotated.get("token").asText();
+        assertThat(rotated.get("refreshToken").asText()).isNotEqualTo(firstRefresh);
+        mockMvc.perform(get("/favorites/by-user").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(refresh(firstRefresh)).andExpect(status().isUnauthorized());
+
+        mockMvc.perform(refresh(rotated.get("refreshToken").asText())).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/favorites/by-user").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void logout_revokesAccessAndRefreshTokens() throws Exception {
+        String username = "logout_" + System.nanoTime();
+        JsonNode registered = json(mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"secret\"}"))
+            .andReturn());
+        String accessToken = registered.get("token").asText();
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/favorites/by-user").header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(refresh(registered.get("refreshToken").asText())).andExpect(status().isUnauthorized());
+    }
+
+    private static RequestBuilder refresh(String refreshToken){
+        return post("/api/auth/refresh")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"refreshToken\":\"" + refreshToken + "\"}");
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
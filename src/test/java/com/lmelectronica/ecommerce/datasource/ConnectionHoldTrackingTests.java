@@ -0,0 +1,52 @@
+package com.lmelectronica.ecommerce.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.lmelectronica.ecommerce.config.ConnectionHoldTracker;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+public class ConnectionHoldTrackingTests {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ConnectionHoldTracker connectionHoldTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceCalls_attributeConnectionHoldToServiceMethod(){
+        Product product = new Product();
+        product.setName("Held " + System.nanoTime());
+        product.setPrice(1.0);
+        product.setStock(1);
+        Long id = productRepository.save(product).getId();
+
+        productService.getProductById(id);
+
+        Timer hold = meterRegistry.find(ConnectionHoldTracker.HOLD_TIMER)
+            .tag("pool", "primary")
+            .tag("method", "ProductService.getProductById")
+            .timer();
+        assertThat(hold).isNotNull();
+        assertThat(hold.count()).isPositive();
+        assertThat(connectionHoldTracker.openHolds()).isEmpty();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", "primary").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,166 @@
+package com.lmelectronica.ecommerce.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lmelectronica.ecommerce.config.ReplicaLagMonitor;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReadWriteRoutingTests.PRIMARY_URL,
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "datasource.replica.jdbc-url=" + ReadWriteRoutingTests.REPLICA_URL,
+    "datasource.replica.username=sa",
+    "datasource.replica.password=",
+    "datasource.replica.max-lag-ms=2000",
+    "datasource.replica.lag-check-interval-ms=3600000"
+})
+public class ReadWriteRoutingTests {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp(){
+        // Stands in for replication: the replica gets the same schema and,
+        // below, whichever rows a test chooses to "replicate".
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        replica = new JdbcTemplate(replicaDataSource);
+        replicateHeartbeat(Instant.now());
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    void replicaReadMethods_useReplica_writesUsePrimary(){
+        ProductDTO created = productService.createProduct(product("Routed " + System.nanoTime()));
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(listedNames()).doesNotContain(created.getName());
+
+        replicateProduct(created.getName());
+
+        assertThat(listedNames()).contains(created.getName());
+    }
+
+    @Test
+    void unmarkedReadOnlyTransactions_stayOnPrimary(){
+        ProductDTO created = productService.createProduct(product("Unmarked " + System.nanoTime()));
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(productService.getProductByName(created.getName()).getPrice()).isEqualTo(10.0);
+        Optional<Product> found = transactionTemplate().execute(status -> productRepository.findByName(created.getName()));
+        assertThat(found).isPresent();
+    }
+
+    @Test
+    void repositoryDefaultTransactions_stayOnPrimary(){
+        ProductDTO created = productService.createProduct(product("Direct " + System.nanoTime()));
+
+        Long id = productRepository.findByName(created.getName()).orElseThrow().getId();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(productRepository.findById(id)).isPresent();
+    }
+
+    @Test
+    void laggingReplica_fallsBackToPrimary(){
+        ProductDTO created = productService.createProduct(product("Lagging " + System.nanoTime()));
+
+        replicateHeartbeat(Instant.now().minus(1, ChronoUnit.MINUTES));
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(replicaLagMonitor.getLagMillis()).isGreaterThan(2000);
+        assertThat(listedNames()).contains(created.getName());
+
+        replicateHeartbeat(Instant.now());
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    void pools_reportMetricsSeparately(){
+        productService.createProduct(product("Metered " + System.nanoTime()));
+        productService.getAllProducts(0, 5, Sort.unsorted());
+
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica").gauge()).isNotNull();
+        assertThat(meterRegistry.get("datasource.routes").tag("pool", "replica").counter().count()).isPositive();
+        assertThat(meterRegistry.get("datasource.routes").tag("transaction", "read-write").counter().count()).isPositive();
+    }
+
+    private List<String> listedNames(){
+        return productService.getAllProducts(0, 1000, Sort.by("id").descending())
+            .map(ProductDTO::getName)
+            .getContent();
+    }
+
+    private TransactionTemplate transactionTemplate(){
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private void replicateHeartbeat(Instant beatAt){
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.from(beatAt));
+    }
+
+    private void replicateProduct(String name){
+        replica.update("INSERT INTO products (name, price, stock) VALUES (?, ?, ?)", name, 10.0, 1);
+    }
+
+    private static ProductDTO product(String name){
+        ProductDTO product = new ProductDTO();
+        product.setName(name);
+        product.setPrice(10.0);
+        product.setStock(1);
+        return product;
+    }
+}
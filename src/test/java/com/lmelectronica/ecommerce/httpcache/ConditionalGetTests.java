@@ -0,0 +1,137 @@
+package com.lmelectronica.ecommerce.httpcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lmelectronica.ecommerce.category.Category;
+import com.lmelectronica.ecommerce.category.CategoryRepository;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductReadCoalescer;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.productdetail.ProductDetail;
+import com.lmelectronica.ecommerce.productdetail.ProductDetailRepository;
+import com.lmelectronica.ecommerce.shared.dtos.UpdateProductRequest;
+
+@SpringBootTest(properties = "product.read-cache.ttl-ms=0")
+@AutoConfigureMockMvc
+@WithMockUser
+public class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductReadCoalescer productReadCoalescer;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductDetailRepository productDetailRepository;
+
+    @Test
+    void product_matchingETag_returnsNotModified_untilUpdated() throws Exception {
+        Product product = productRepository.save(product("Etag " + System.nanoTime()));
+
+        String etag = mockMvc.perform(get("/products/by-id").param("id", product.getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, private, stale-while-revalidate=30"))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo("\"" + product.getId() + "-0\"");
+
+        mockMvc.perform(get("/products/by-id").param("id", product.getId().toString()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+        mockMvc.perform(get("/products/by-name").param("name", product.getName()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        UpdateProductRequest request = new UpdateProductRequest();
+        request.setStock(7);
+        productService.updateProduct(product.getId(), request);
+        productReadCoalescer.evict(product.getId());
+
+        mockMvc.perform(get("/products/by-id").param("id", product.getId().toString()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + product.getId() + "-1\""));
+    }
+
+    @Test
+    void product_ifModifiedSince_comparedAgainstLastUpdate() throws Exception {
+        Product product = productRepository.save(product("Since " + System.nanoTime()));
+
+        String lastModified = mockMvc.perform(get("/products/by-id").param("id", product.getId().toString()))
+            .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/products/by-id").param("id", product.getId().toString()).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/products/by-id").param("id", product.getId().toString()).header(HttpHeaders.IF_MODIFIED_SINCE, "Thu, 01 Jan 1970 00:00:00 GMT"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void category_andDetails_changeTagOnWrite() throws Exception {
+        Category category = new Category();
+        category.setName("Etag category " + System.nanoTime());
+        category = categoryRepository.save(category);
+
+        String categoryTag = mockMvc.perform(get("/categories/by-id").param("id", category.getId().toString()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/categories/by-name").param("name", category.getName()).header(HttpHeaders.IF_NONE_MATCH, categoryTag))
+            .andExpect(status().isNotModified());
+
+        category.setDescription("changed");
+        categoryRepository.save(category);
+        mockMvc.perform(get("/categories/by-id").param("id", category.getId().toString()).header(HttpHeaders.IF_NONE_MATCH, categoryTag))
+            .andExpect(status().isOk());
+
+        Product product = productRepository.save(product("Details " + System.nanoTime()));
+        ProductDetail detail = new ProductDetail();
+        detail.setKeyName("color");
+        detail.setDetails("black");
+        detail.setProduct(product);
+        detail = productDetailRepository.save(detail);
+
+        String detailsTag = mockMvc.perform(get("/product-detail/by-product").param("id", product.getId().toString()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/product-detail/by-product").param("id", product.getId().toString()).header(HttpHeaders.IF_NONE_MATCH, detailsTag))
+            .andExpect(status().isNotModified());
+
+        detail.setDetails("white");
+        productDetailRepository.save(detail);
+        mockMvc.perform(get("/product-detail/by-product").param("id", product.getId().toString()).header(HttpHeaders.IF_NONE_MATCH, detailsTag))
+            .andExpect(status().isOk());
+    }
+
+    private static Product product(String name){
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(10.0);
+        product.setStock(3);
+        product.setCreatedAt(new Date());
+        return product;
+    }
+}
@@ -0,0 +1,90 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.lmelectronica.ecommerce.config.JwtService;
+import com.lmelectronica.ecommerce.order.Order;
+import com.lmelectronica.ecommerce.order.OrderRepository;
+import com.lmelectronica.ecommerce.order.Status;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.user.Role;
+import com.lmelectronica.ecommerce.user.User;
+import com.lmelectronica.ecommerce.user.UserRepository;
+
+/**
+ * Fills the embedded database with customers, products and orders. Tokens
+ * are issued straight from {@link JwtService} so the run does not spend its
+ * time hashing passwords on login.
+ */
+public class CatalogSeeder {
+
+    public record Catalog(List<String> tokens, List<Long> productIds) {}
+
+    private final UserRepository userRepository;
+
+    private final ProductRepository productRepository;
+
+    private final OrderRepository orderRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final JwtService jwtService;
+
+    public CatalogSeeder(UserRepository userRepository, ProductRepository productRepository,
+            OrderRepository orderRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtService = jwtService;
+    }
+
+    public Catalog seed(int userCount, int productCount, int orderCount) {
+        String password = passwordEncoder.encode("loadtest");
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setUsername("loadtest_user_" + i);
+            user.setEmail("loadtest_user_" + i + "@example.com");
+            user.setPassword(password);
+            user.setFirstName("Load");
+            user.setLastName("Test " + i);
+            user.setRole(Role.customer);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setName("Load test product " + i);
+            product.setPrice(10.0 + i % 500);
+            product.setStock(1_000_000);
+            product.setDescription("Seeded product " + i);
+            product.setCreatedAt(new Date());
+            products.add(product);
+        }
+        products = productRepository.saveAll(products);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order();
+            order.setUser(users.get(i % users.size()));
+            order.setBillingAddress("Seeded address " + i);
+            order.setStatus(Status.pending);
+            order.setCreatedAt(new Date());
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+
+        return new Catalog(
+                users.stream().map(user -> jwtService.generateToken(user.getUsername())).toList(),
+                products.stream().map(Product::getId).toList());
+    }
+}
@@ -0,0 +1,86 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thin HTTP client used by load-test scenarios. Every call is timed under
+ * its endpoint name; a failed call throws so the rest of the scenario is
+ * skipped, the same way a real client would give up.
+ */
+public class EndpointClient {
+
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    private volatile long measureFrom = Long.MAX_VALUE;
+
+    public EndpointClient(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    public String get(String endpoint, String path, String token) {
+        return send(endpoint, builder(path, token).GET().build());
+    }
+
+    public String post(String endpoint, String path, String token, String json) {
+        return send(endpoint, builder(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    void startMeasuring(long nanoTime) {
+        measureFrom = nanoTime;
+    }
+
+    boolean measuring(long nanoTime) {
+        return nanoTime >= measureFrom;
+    }
+
+    LatencyRecorder recorder(String name) {
+        return recorders.computeIfAbsent(name, key -> new LatencyRecorder());
+    }
+
+    Map<String, LatencyRecorder> recorders() {
+        return new TreeMap<>(recorders);
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean measured = measuring(start);
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException(endpoint + " returned " + response.statusCode());
+            }
+            if (measured) recorder(endpoint).record(System.nanoTime() - start);
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (measured) recorder(endpoint).recordError();
+            throw new IllegalStateException(endpoint + " interrupted", e);
+        } catch (Exception e) {
+            if (measured) recorder(endpoint).recordError();
+            throw e instanceof RuntimeException runtime ? runtime : new IllegalStateException(endpoint + " failed", e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lmelectronica.ecommerce.config.JwtService;
+import com.lmelectronica.ecommerce.loadtest.CatalogSeeder.Catalog;
+import com.lmelectronica.ecommerce.loadtest.OpenLoopLoadGenerator.Scenario;
+import com.lmelectronica.ecommerce.order.OrderRepository;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.user.UserRepository;
+
+/**
+ * Boots the application on an in-memory H2 database, seeds it and drives a
+ * mix of browsing, checkout, review and order-history traffic at fixed
+ * arrival rates. Per-endpoint throughput and latency percentiles are written
+ * to {@code target/loadtest/http-load.json}.
+ *
+ * <p>Excluded from the normal build; run with {@code mvn -Ploadtest test}.
+ * Rates, durations and catalog size are {@code -Dloadtest.*} properties.
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment=SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class HttpLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void mixedTraffic_fixedArrivalRates_writeReport() throws Exception {
+        int users = Integer.getInteger("loadtest.seed.users", 200);
+        int products = Integer.getInteger("loadtest.seed.products", 500);
+        int orders = Integer.getInteger("loadtest.seed.orders", 1000);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30));
+        int maxInFlight = Integer.getInteger("loadtest.maxInFlight", 1000);
+        double maxErrorRatio = Double.parseDouble(System.getProperty("loadtest.maxErrorRatio", "0.01"));
+        Path report = Path.of(System.getProperty("loadtest.report", "target/loadtest/http-load.json"));
+
+        Catalog catalog = new CatalogSeeder(userRepository, productRepository, orderRepository, passwordEncoder, jwtService)
+                .seed(users, products, orders);
+
+        AtomicLong reviewSequence = new AtomicLong();
+        List<Scenario> scenarios = List.of(
+                new Scenario("browse", rate("browse", 50), client -> {
+                    String token = randomToken(catalog);
+                    client.get("GET /products", "/products?page=" + ThreadLocalRandom.current().nextInt(10) + "&size=20", token);
+                    client.get("GET /products/by-id", "/products/by-id?id=" + randomProduct(catalog), token);
+                }),
+                new Scenario("checkout", rate("checkout", 10), client -> {
+                    String token = randomToken(catalog);
+                    String order = client.post("POST /orders/create-order", "/orders/create-order", token,
+                            "{\"billingAddress\":\"Load test street 1\"}");
+                    long orderId = readId(order);
+                    client.post("POST /order-item/create-item",
+                            "/order-item/create-item?productId=" + randomProduct(catalog) + "&orderId=" + orderId,
+                            token, "{\"quantity\":1}");
+                }),
+                new Scenario("review", rate("review", 5), client -> {
+                    long sequence = reviewSequence.getAndIncrement();
+                    String token = catalog.tokens().get((int) (sequence % catalog.tokens().size()));
+                    long productId = catalog.productIds().get((int) (sequence / catalog.tokens().size() % catalog.productIds().size()));
+                    client.post("POST /reviews/create-review", "/reviews/create-review?productId=" + productId, token,
+                            "{\"comment\":\"Load test review\",\"rating\":4.0}");
+                }),
+                new Scenario("order-history", rate("order-history", 10), client ->
+                        client.get("GET /orders/by-user", "/orders/by-user", randomToken(catalog))));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        EndpointClient client = new EndpointClient(httpClient, "http://localhost:" + port);
+
+        List<LatencySummary> results = new OpenLoopLoadGenerator(client, maxInFlight).run(scenarios, warmup, duration);
+        results.forEach(result -> System.out.println(result.toLine()));
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("products", products);
+        config.put("orders", orders);
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("maxInFlight", maxInFlight);
+        scenarios.forEach(scenario -> config.put(scenario.name() + "RatePerSecond", scenario.ratePerSecond()));
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(report.toFile(), Map.of("config", config, "results", results));
+
+        long requests = results.stream().mapToLong(LatencySummary::requests).sum();
+        long errors = results.stream().mapToLong(LatencySummary::errors).sum();
+        assertThat(requests).isPositive();
+        assertThat((double) errors / (requests + errors)).isLessThanOrEqualTo(maxErrorRatio);
+    }
+
+    private static double rate(String scenario, double defaultRate) {
+        return Double.parseDouble(System.getProperty("loadtest.rate." + scenario, String.valueOf(defaultRate)));
+    }
+
+    private static String randomToken(Catalog catalog) {
+        return catalog.tokens().get(ThreadLocalRandom.current().nextInt(catalog.tokens().size()));
+    }
+
+    private static long randomProduct(Catalog catalog) {
+        return catalog.productIds().get(ThreadLocalRandom.current().nextInt(catalog.productIds().size()));
+    }
+
+    private long readId(String json) {
+        try {
+            return objectMapper.readTree(json).get("id").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected response: " + json, e);
+        }
+    }
+}
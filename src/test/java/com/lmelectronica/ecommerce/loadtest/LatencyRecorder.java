@@ -0,0 +1,71 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<Buffer> local = ThreadLocal.withInitial(() -> {
+        Buffer buffer = new Buffer();
+        buffers.add(buffer);
+        return buffer;
+    });
+
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos) {
+        local.get().add(latencyNanos);
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public LatencySummary summarize(String name, double elapsedSeconds) {
+        int total = 0;
+        for (Buffer buffer : buffers) {
+            total += buffer.size;
+        }
+
+        long[] all = new long[total];
+        int offset = 0;
+        for (Buffer buffer : buffers) {
+            System.arraycopy(buffer.values, 0, all, offset, buffer.size);
+            offset += buffer.size;
+        }
+        Arrays.sort(all);
+
+        return new LatencySummary(
+                name,
+                all.length,
+                errors.sum(),
+                elapsedSeconds > 0 ? all.length / elapsedSeconds : 0,
+                percentileMillis(all, 50),
+                percentileMillis(all, 95),
+                percentileMillis(all, 99),
+                percentileMillis(all, 99.9),
+                all.length == 0 ? 0 : all[all.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static final class Buffer {
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+public record LatencySummary(
+        String name,
+        long requests,
+        long errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis) {
+
+    public String toLine() {
+        return String.format("%-28s %9d req %6d err %9.1f req/s  p50 %7.2f  p95 %7.2f  p99 %7.2f  p99.9 %7.2f  max %8.2f ms",
+                name, requests, errors, throughputPerSecond, p50Millis, p95Millis, p99Millis, p999Millis, maxMillis);
+    }
+}
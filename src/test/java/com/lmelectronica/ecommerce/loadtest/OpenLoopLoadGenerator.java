@@ -0,0 +1,88 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Starts scenarios on a fixed schedule regardless of how fast the server
+ * answers, so a slow server builds up queueing delay instead of quietly
+ * receiving less load. Scenario latency is measured from the scheduled
+ * start, which keeps that queueing delay in the percentiles.
+ */
+public class OpenLoopLoadGenerator {
+
+    public record Scenario(String name, double ratePerSecond, Consumer<EndpointClient> script) {}
+
+    private final EndpointClient client;
+
+    private final int maxInFlight;
+
+    public OpenLoopLoadGenerator(EndpointClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public List<LatencySummary> run(List<Scenario> scenarios, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+        client.startMeasuring(measureFrom);
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService workers = Executors.newCachedThreadPool();
+        List<Thread> dispatchers = new ArrayList<>();
+
+        for (Scenario scenario : scenarios) {
+            Thread dispatcher = new Thread(() -> dispatch(scenario, start, deadline, inFlight, workers),
+                    "loadtest-" + scenario.name());
+            dispatcher.start();
+            dispatchers.add(dispatcher);
+        }
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+        workers.shutdown();
+        workers.awaitTermination(60, TimeUnit.SECONDS);
+
+        double seconds = duration.toMillis() / 1000.0;
+        List<LatencySummary> summaries = new ArrayList<>();
+        for (Map.Entry<String, LatencyRecorder> entry : client.recorders().entrySet()) {
+            summaries.add(entry.getValue().summarize(entry.getKey(), seconds));
+        }
+        return summaries;
+    }
+
+    private void dispatch(Scenario scenario, long start, long deadline, Semaphore inFlight, ExecutorService workers) {
+        long interval = (long) (1_000_000_000L / scenario.ratePerSecond());
+        String name = "scenario " + scenario.name();
+        for (long scheduled = start; scheduled < deadline; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            long intended = scheduled;
+            if (!inFlight.tryAcquire()) {
+                if (client.measuring(intended)) client.recorder(name).recordError();
+                continue;
+            }
+            workers.execute(() -> {
+                try {
+                    scenario.script().accept(client);
+                    if (client.measuring(intended)) client.recorder(name).record(System.nanoTime() - intended);
+                } catch (RuntimeException e) {
+                    if (client.measuring(intended)) client.recorder(name).recordError();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+}
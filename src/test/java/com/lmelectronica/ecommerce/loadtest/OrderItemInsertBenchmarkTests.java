@@ -0,0 +1,129 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.lmelectronica.ecommerce.order.Order;
+import com.lmelectronica.ecommerce.order.Status;
+import com.lmelectronica.ecommerce.orderItem.OrderItem;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.review.Review;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCount;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCountHolder;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCountStatementInspector;
+import com.lmelectronica.ecommerce.user.User;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Inserts the same number of rows three ways on the embedded database:
+ * an IDENTITY entity (no batching possible), order items with pooled ids
+ * but batching switched off, and order items with pooled ids and JDBC
+ * batching. Run with {@code mvn -Pbenchmark test -Dbenchmark.rows=10000}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql=false)
+@Import(QueryCountStatementInspector.class)
+public class OrderItemInsertBenchmarkTests {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private record Run(String name, int rows, long nanos, int statements) {
+
+        double rowsPerSecond() {
+            return rows / (nanos / 1_000_000_000.0);
+        }
+
+        String toLine() {
+            return String.format("%-32s %7d rows %8.1f ms %10.0f rows/s %7d prepared statements",
+                name, rows, nanos / 1_000_000.0, rowsPerSecond(), statements);
+        }
+    }
+
+    @Test
+    void insertRows_identityVsPooledBatched_reportThroughput(){
+        User user = new User();
+        user.setUsername("batch_user");
+        user.setEmail("batch_user@example.com");
+        entityManager.persist(user);
+
+        Product product = new Product();
+        product.setName("Batch product");
+        product.setPrice(10.0);
+        product.setStock(1_000_000);
+        entityManager.persist(product);
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setStatus(Status.pending);
+        order.setCreatedAt(new Date());
+        entityManager.persist(order);
+        entityManager.flush();
+
+        insertOrderItems("warm-up", order, product, ROWS / 10, 50);
+        insertReviews("warm-up", user, product, ROWS / 10);
+
+        Run identity = insertReviews("IDENTITY reviews", user, product, ROWS);
+        Run unbatched = insertOrderItems("pooled order items, batch 1", order, product, ROWS, 1);
+        Run batched = insertOrderItems("pooled order items, batch 50", order, product, ROWS, 50);
+
+        System.out.println(identity.toLine());
+        System.out.println(unbatched.toLine());
+        System.out.println(batched.toLine());
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements());
+    }
+
+    private Run insertOrderItems(String name, Order order, Product product, int rows, int batchSize){
+        return measure(name, rows, batchSize, () -> {
+            for(int i = 0; i < rows; i++){
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1 + i % 5);
+                item.setPrice(product.getPrice());
+                entityManager.persist(item);
+            }
+        });
+    }
+
+    private Run insertReviews(String name, User user, Product product, int rows){
+        return measure(name, rows, 50, () -> {
+            for(int i = 0; i < rows; i++){
+                Review review = new Review();
+                review.setUser(user);
+                review.setProduct(product);
+                review.setRating(4);
+                review.setComment("Batch review " + i);
+                review.setCreatedAt(new Date());
+                entityManager.persist(review);
+            }
+        });
+    }
+
+    private Run measure(String name, int rows, int batchSize, Runnable inserts){
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        QueryCount count = QueryCountHolder.start();
+        long start = System.nanoTime();
+        try {
+            inserts.run();
+            entityManager.flush();
+        } finally {
+            QueryCountHolder.stop(count);
+        }
+        long nanos = System.nanoTime() - start;
+        entityManager.clear();
+        return new Run(name, rows, nanos, count.getTotal());
+    }
+}
@@ -0,0 +1,54 @@
+package com.lmelectronica.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Drives the same endpoint on two running instances, one on platform
+ * threads and one started with the virtual-threads profile, and writes
+ * throughput and tail latency for both to a JSON report.
+ *
+ * <p>Run with {@code scripts/compare-thread-modes.sh}, or directly:
+ * {@code mvn -Ploadtest exec:java -Dloadtest.token=...}.
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        String platformUrl = System.getProperty("loadtest.platformUrl", "http://localhost:8081");
+        String virtualUrl = System.getProperty("loadtest.virtualUrl", "http://localhost:8082");
+        String path = System.getProperty("loadtest.path", "/products?page=0&size=20");
+        String token = System.getProperty("loadtest.token", "");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 2000);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 15));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 60));
+        Path report = Path.of(System.getProperty("loadtest.report", "target/loadtest/thread-modes.json"));
+
+        ClosedLoopLoadGenerator generator = new ClosedLoopLoadGenerator(concurrency);
+
+        LatencySummary platform = generator.run("platform " + path, URI.create(platformUrl + path), token, warmup, duration);
+        System.out.println(platform.toLine());
+
+        LatencySummary virtual = generator.run("virtual " + path, URI.create(virtualUrl + path), token, warmup, duration);
+        System.out.println(virtual.toLine());
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(report.toFile(), Map.of(
+                        "concurrency", concurrency,
+                        "warmupSeconds", warmup.toSeconds(),
+                        "durationSeconds", duration.toSeconds(),
+                        "results", List.of(platform, virtual)));
+
+        System.out.println("Report written to " + report.toAbsolutePath());
+        System.exit(0);
+    }
+}
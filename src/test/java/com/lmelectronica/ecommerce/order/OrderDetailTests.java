@@ -0,0 +1,90 @@
+package com.lmelectronica.ecommerce.order;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lmelectronica.ecommerce.config.JwtService;
+import com.lmelectronica.ecommerce.orderItem.OrderItem;
+import com.lmelectronica.ecommerce.orderItem.OrderItemRepository;
+import com.lmelectronica.ecommerce.orderItem.OrderItemService;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.shared.dtos.OrderItemDTO;
+import com.lmelectronica.ecommerce.user.Role;
+import com.lmelectronica.ecommerce.user.User;
+import com.lmelectronica.ecommerce.user.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OrderDetailTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderItemService orderItemService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void updatedItem_keepsUnitPrice_inOrderDetail() throws Exception {
+        String username = "detail_" + System.nanoTime();
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("unused");
+        user.setRole(Role.customer);
+        userRepository.save(user);
+
+        Product product = new Product();
+        product.setName("Detail update " + System.nanoTime());
+        product.setPrice(25.0);
+        product.setStock(10);
+        product = productRepository.save(product);
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setStatus(Status.pending);
+        order.setBillingAddress("Debit Card");
+        order = orderRepository.save(order);
+
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProduct(product);
+        item.setPrice(product.getPrice());
+        item.setQuantity(2);
+        item = orderItemRepository.save(item);
+
+        OrderItemDTO change = new OrderItemDTO();
+        change.setQuantity(3);
+        orderItemService.updateOrderItem(item.getId(), change);
+
+        mockMvc.perform(get("/orders/detail")
+                .param("id", order.getId().toString())
+                .header("Authorization", "Bearer " + jwtService.generateToken(username)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].quantity").value(3))
+            .andExpect(jsonPath("$.items[0].price").value(25.0))
+            .andExpect(jsonPath("$.items[0].lineTotal").value(75.0));
+    }
+}
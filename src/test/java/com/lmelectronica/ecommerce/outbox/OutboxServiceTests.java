@@ -0,0 +1,56 @@
+package com.lmelectronica.ecommerce.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+
+@SpringBootTest
+public class OutboxServiceTests {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void productUpdated_unsetPriceAndStock_recordedAsNulls(){
+        Product product = new Product();
+        product.setName("Outbox unpriced " + System.nanoTime());
+        product.setCreatedAt(new Date());
+        Product saved = productRepository.save(product);
+
+        transactionTemplate.executeWithoutResult(status -> outboxService.productUpdated(saved));
+
+        assertThat(outboxEventRepository.findAll())
+            .filteredOn(event -> saved.getId().equals(event.getAggregateId())
+                && event.getEventType() == OutboxEventType.product_updated)
+            .singleElement()
+            .extracting(OutboxEvent::getPayload)
+            .isEqualTo("{\"price\":null,\"stock\":null}");
+    }
+
+    @Test
+    void productUpdated_outsideTransaction_rejected(){
+        Product product = new Product();
+        product.setId(1L);
+
+        assertThrows(IllegalTransactionStateException.class, () -> outboxService.productUpdated(product));
+    }
+}
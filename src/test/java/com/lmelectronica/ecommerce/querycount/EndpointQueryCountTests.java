@@ -0,0 +1,124 @@
+package com.lmelectronica.ecommerce.querycount;
+
+import static com.lmelectronica.ecommerce.support.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.lmelectronica.ecommerce.config.JwtService;
+import com.lmelectronica.ecommerce.order.Order;
+import com.lmelectronica.ecommerce.order.OrderRepository;
+import com.lmelectronica.ecommerce.order.Status;
+import com.lmelectronica.ecommerce.orderItem.OrderItem;
+import com.lmelectronica.ecommerce.orderItem.OrderItemRepository;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCountHeaderAdvice;
+import com.lmelectronica.ecommerce.user.Role;
+import com.lmelectronica.ecommerce.user.User;
+import com.lmelectronica.ecommerce.user.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EndpointQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    private User user;
+
+    private String token;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp(){
+        String username = "querycount_" + System.nanoTime();
+        user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("unused");
+        user.setRole(Role.customer);
+        userRepository.save(user);
+        token = jwtService.generateToken(username);
+
+        Product product = new Product();
+        product.setName("Query count product " + System.nanoTime());
+        product.setPrice(99.0);
+        product.setStock(5);
+        productId = productRepository.save(product).getId();
+    }
+
+    @Test
+    void getProductById_withinBudget_exposeCountHeader() throws Throwable {
+        MvcResult result = assertMaxQueries(3, () -> mockMvc.perform(get("/products/by-id")
+                .param("id", productId.toString())
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andReturn());
+
+        assertThat(result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER)).isNotNull();
+    }
+
+    @Test
+    void getOrderDetail_loadsOrderItemsAndProductsInOneQuery() throws Throwable {
+        Order order = new Order();
+        order.setUser(user);
+        order.setStatus(Status.pending);
+        order.setBillingAddress("Debit Card");
+        order = orderRepository.save(order);
+
+        for(int i = 0; i < 3; i++){
+            Product product = new Product();
+            product.setName("Detail product " + i + " " + System.nanoTime());
+            product.setPrice(10.0 * (i + 1));
+            product.setStock(5);
+
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(productRepository.save(product));
+            item.setPrice(product.getPrice());
+            item.setQuantity(2);
+            orderItemRepository.save(item);
+        }
+
+        Long orderId = order.getId();
+        assertMaxQueries(3, () -> mockMvc.perform(get("/orders/detail")
+                .param("id", orderId.toString())
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(3))
+            .andExpect(jsonPath("$.items[*].productName").isNotEmpty())
+            .andExpect(jsonPath("$.items[?(@.price == 30.0)].lineTotal").value(60.0))
+            .andReturn());
+    }
+
+    @Test
+    void assertMaxQueries_budgetExceeded_fail(){
+        assertThrows(AssertionError.class, () -> assertMaxQueries(0, () -> productRepository.findById(productId)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+public class CachedBodyRequestTests {
+
+    @Test
+    void setReadListener_deliversBufferedBodyThenSignalsEnd() throws Exception {
+        MockHttpServletRequest original = new MockHttpServletRequest();
+        original.setContent("{\"username\":\"async\"}".getBytes(StandardCharsets.UTF_8));
+        CachedBodyRequest request = new CachedBodyRequest(original);
+
+        ServletInputStream in = request.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                byte[] buffer = new byte[8];
+                while(in.isReady() && !in.isFinished()){
+                    int n = in.read(buffer);
+                    if(n > 0) read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead(){
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t){
+                calls.add("error");
+            }
+        });
+
+        assertThat(calls).containsExactly("data", "done");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"username\":\"async\"}");
+    }
+
+    @Test
+    void setReadListener_listenerFails_reportedToOnError() throws Exception {
+        MockHttpServletRequest original = new MockHttpServletRequest();
+        original.setContent(new byte[]{1});
+        CachedBodyRequest request = new CachedBodyRequest(original);
+
+        List<Throwable> errors = new ArrayList<>();
+        request.getInputStream().setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw new IOException("downstream failed");
+            }
+
+            @Override
+            public void onAllDataRead(){ }
+
+            @Override
+            public void onError(Throwable t){
+                errors.add(t);
+            }
+        });
+
+        assertThat(errors).singleElement().extracting(Throwable::getMessage).isEqualTo("downstream failed");
+    }
+}
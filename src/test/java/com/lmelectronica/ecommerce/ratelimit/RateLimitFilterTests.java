@@ -0,0 +1,56 @@
+package com.lmelectronica.ecommerce.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "rate-limit.groups.auth.ip.capacity=100",
+    "rate-limit.groups.auth.user.capacity=2",
+    "rate-limit.groups.auth.user.refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+public class RateLimitFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void login_sameUsernameOverLimit_return429AndKeepBodyForController() throws Exception {
+        String username = "ratelimited_" + System.nanoTime();
+
+        for(int i = 0; i < 2; i++){
+            MvcResult result = mockMvc.perform(login(username, "10.0.0." + i)).andReturn();
+            assertThat(result.getResponse().getStatus()).isNotEqualTo(429);
+        }
+
+        mockMvc.perform(login(username, "10.0.0.9"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.error").value("TOO_MANY_REQUESTS"));
+
+        MvcResult other = mockMvc.perform(login(username + "_other", "10.0.0.9")).andReturn();
+        assertThat(other.getResponse().getStatus()).isNotEqualTo(429);
+    }
+
+    private static MockHttpServletRequestBuilder login(String username, String ip){
+        String body = "{\"username\":\"" + username + "\",\"password\":\"wrong\"}";
+        return post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body)
+            .with(request -> {
+                request.setRemoteAddr(ip);
+                return request;
+            });
+    }
+}
@@ -0,0 +1,155 @@
+package com.lmelectronica.ecommerce.schema;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.lmelectronica.ecommerce.address.AddressRepository;
+import com.lmelectronica.ecommerce.category.CategoryRepository;
+import com.lmelectronica.ecommerce.favorite.FavoriteRepository;
+import com.lmelectronica.ecommerce.order.OrderRepository;
+import com.lmelectronica.ecommerce.orderItem.OrderItemRepository;
+import com.lmelectronica.ecommerce.outbox.OutboxEventRepository;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.productdetail.ProductDetailRepository;
+import com.lmelectronica.ecommerce.review.ReviewRepository;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCount;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCountHolder;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCountStatementInspector;
+import com.lmelectronica.ecommerce.user.UserRepository;
+
+/**
+ * Runs every lookup query against the migrated schema on H2 and fails when
+ * the execution plan falls back to a full table scan.
+ */
+@DataJpaTest
+@Import(QueryCountStatementInspector.class)
+public class RepositoryIndexTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductDetailRepository productDetailRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void userLookups_useIndexes() throws Exception {
+        assertIndexed(() -> userRepository.findByUsername("someone"));
+        assertIndexed(() -> userRepository.existsByUsername("someone"));
+        assertIndexed(() -> userRepository.existsByEmail("someone@example.com"));
+        assertIndexed(() -> userRepository.findByEmail("someone@example.com"));
+        assertIndexed(() -> addressRepository.findByUserUsername("someone"));
+    }
+
+    @Test
+    void catalogLookups_useIndexes() throws Exception {
+        assertIndexed(() -> productRepository.findByName("Monitor"));
+        assertIndexed(() -> productRepository.existsByName("Monitor"));
+        assertIndexed(() -> categoryRepository.findByName("Monitors"));
+        assertIndexed(() -> categoryRepository.existsByName("Monitors"));
+        assertIndexed(() -> productDetailRepository.findByProductId(1L));
+    }
+
+    @Test
+    void favoriteAndReviewLookups_useIndexes() throws Exception {
+        assertIndexed(() -> favoriteRepository.findByUserIdAndProductId(1L, 1L));
+        assertIndexed(() -> favoriteRepository.findFavoritesByUserId(1L));
+        assertIndexed(() -> favoriteRepository.countByProductId(1L));
+        assertIndexed(() -> favoriteRepository.findListingByUserId(1L, PageRequest.of(0, 10, Sort.by("createdAt").descending())));
+        assertIndexed(() -> reviewRepository.findByUserId(1L));
+        assertIndexed(() -> reviewRepository.findListingByProductId(1L, PageRequest.of(0, 10, Sort.by("createdAt").descending())));
+        assertIndexed(() -> reviewRepository.findListingByUserId(1L, PageRequest.of(0, 10, Sort.by("createdAt").descending())));
+        assertIndexed(() -> reviewRepository.summarizeByProductId(1L));
+    }
+
+    @Test
+    void orderLookups_useIndexes() throws Exception {
+        assertIndexed(() -> orderRepository.findListingByUserId(1L, PageRequest.of(0, 10, Sort.by("createdAt").descending())));
+        assertIndexed(() -> orderRepository.lockStatusesByIdIn(List.of(1L, 2L)));
+        assertIndexed(() -> orderItemRepository.findByOrderId(1L));
+        assertIndexed(() -> orderItemRepository.findWithProductById(1L));
+        assertIndexed(() -> orderRepository.findDetailById(1L));
+        assertIndexed(() -> orderRepository.findDetailByIdAndUsername(1L, "someone"));
+    }
+
+    @Test
+    void outboxQueries_useIndexes() throws Exception {
+        assertIndexed(() -> outboxEventRepository.lockNextBatch(PageRequest.of(0, 100)));
+        assertIndexed(() -> outboxEventRepository.markPublished(Set.of(1L, 2L), new Date()));
+        assertIndexed(() -> outboxEventRepository.deletePublishedBefore(new Date()));
+    }
+
+    private void assertIndexed(Runnable repositoryCall) throws Exception {
+        QueryCount count = QueryCountHolder.start();
+        try {
+            repositoryCall.run();
+        } finally {
+            QueryCountHolder.stop(count);
+        }
+        assertThat(count.getShapes()).isNotEmpty();
+
+        List<String> scans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : count.getShapes().keySet()) {
+                String plan = explain(connection, sql.replace("(?...)", "(?)"));
+                if (plan.contains("tableScan")) scans.add(sql + "\n    " + plan);
+            }
+        }
+        assertThat(scans).as("queries running as full table scans").isEmpty();
+    }
+
+    private String explain(Connection connection, String sql) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1).replaceAll("\\s+", " ");
+            }
+        }
+    }
+}
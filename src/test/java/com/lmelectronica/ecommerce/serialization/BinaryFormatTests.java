@@ -0,0 +1,99 @@
+package com.lmelectronica.ecommerce.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+public class BinaryFormatTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void cbor_negotiated_sameShapeAsJson() throws Exception {
+        byte[] body = mockMvc.perform(get("/categories").param("size", "5").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertCompactPage(new CBORMapper(), body);
+    }
+
+    @Test
+    void smile_negotiated_sameShapeAsJson() throws Exception {
+        byte[] body = mockMvc.perform(get("/categories").param("size", "5").accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertCompactPage(new SmileMapper(), body);
+    }
+
+    @Test
+    void wildcardAccept_staysJson() throws Exception {
+        mockMvc.perform(get("/categories").header(HttpHeaders.ACCEPT, "*/*"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void negotiatedFormats_varyOnAccept_andTagPerFormat() throws Exception {
+        Product product = new Product();
+        product.setName("Binary etag " + System.nanoTime());
+        product.setPrice(10.0);
+        product.setStock(3);
+        product.setCreatedAt(new Date());
+        String id = productRepository.save(product).getId().toString();
+
+        String jsonTag = mockMvc.perform(get("/products/by-id").param("id", id).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborTag = mockMvc.perform(get("/products/by-id").param("id", id).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(cborTag).isEqualTo("\"" + id + "-0-cbor\"").isNotEqualTo(jsonTag);
+        mockMvc.perform(get("/products/by-id").param("id", id).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/products/by-id").param("id", id).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, cborTag))
+            .andExpect(status().isNotModified());
+    }
+
+    private static void assertCompactPage(ObjectMapper mapper, byte[] body) throws Exception {
+        JsonNode page = mapper.readTree(body);
+        assertThat(page.get("content").isArray()).isTrue();
+        assertThat(page.get("page").get("size").asInt()).isEqualTo(5);
+        assertThat(page.has("pageable")).isFalse();
+    }
+}
@@ -0,0 +1,32 @@
+package com.lmelectronica.ecommerce.serialization;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+public class PageResponseTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void pages_useCompactEnvelope() throws Exception {
+        mockMvc.perform(get("/categories").param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isArray())
+            .andExpect(jsonPath("$.page.size").value(5))
+            .andExpect(jsonPath("$.page.totalElements").isNumber())
+            .andExpect(jsonPath("$.pageable").doesNotExist())
+            .andExpect(jsonPath("$.sort").doesNotExist());
+    }
+}
@@ -21,6 +21,7 @@ import com.lmelectronica.ecommerce.shared.dtos.AddressDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateAddressRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
 import com.lmelectronica.ecommerce.user.User;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 import com.lmelectronica.ecommerce.user.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +33,9 @@ public class AddressServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserIdentityResolver userIdentityResolver;
+
     @Mock
     private AddressRepository addressRepository;
 
@@ -52,7 +56,7 @@ public class AddressServiceTests {
         user.setId(1L);
         user.setFirstName("Lucas");
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.reference("username")).thenReturn(user);
         when(addressRepository.save(any(Address.class))).thenReturn(address);
         
         AddressDTO result = addressService.saveAddress(addressDTO, user.getUsername());
@@ -62,7 +66,7 @@ public class AddressServiceTests {
         assertEquals(result.getNumber(), address.getNumber());
         assertEquals(result.getProvince(), address.getProvince());
         
-        verify(userRepository).findByUsername("username");
+        verify(userIdentityResolver).reference("username");
         verify(addressRepository).save(any(Address.class));   
     }
 
@@ -71,7 +75,7 @@ public class AddressServiceTests {
         AddressDTO addressDTO = new AddressDTO();
         String username = "usernameRandom";
 
-        when(userRepository.findByUsername("usernameRandom")).thenReturn(Optional.empty());
+        when(userIdentityResolver.reference("usernameRandom")).thenThrow(new ResourceNotFoundException("User", "usernameRandom"));
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> addressService.saveAddress(addressDTO, username));
 
@@ -157,7 +161,7 @@ public class AddressServiceTests {
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> addressService.deleteAddress("username"));
 
-        String messageExpected = String.format("Address with id '%s' not found. ", user);
+        String messageExpected = String.format("Address with id '%s' not found. ", "username");
 
         assertEquals(ex.getMessage(), messageExpected);
     }
@@ -0,0 +1,115 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.lmelectronica.ecommerce.auth.BoundedPasswordEncoder;
+import com.lmelectronica.ecommerce.shared.exceptions.CapacityExceededException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private MeterRegistry meterRegistry;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp(){
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, Duration.ofMillis(300), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown(){
+        executor.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_runOnPool(){
+        String hash = passwordEncoder.encode("secret");
+
+        assertTrue(passwordEncoder.matches("secret", hash));
+        assertFalse(passwordEncoder.matches("other", hash));
+        assertEquals(2, meterRegistry.get("app.security.password").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void saturatedPool_rejectsWithCapacityExceeded() throws Exception {
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            busy.countDown();
+            await(release);
+        });
+        busy.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> await(release));
+
+        try {
+            assertThrows(CapacityExceededException.class, () -> passwordEncoder.encode("secret"));
+        } finally {
+            release.countDown();
+        }
+        assertEquals(1, meterRegistry.get("app.security.password.rejected").counter().count());
+    }
+
+    @Test
+    void slowQueue_timesOutWithCapacityExceeded() throws Exception {
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            busy.countDown();
+            await(release);
+        });
+        busy.await(5, TimeUnit.SECONDS);
+
+        try {
+            assertThrows(CapacityExceededException.class, () -> passwordEncoder.encode("secret"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void upgradeEncoding_weakerHash_returnTrue(){
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        BoundedPasswordEncoder stronger = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor, Duration.ofSeconds(1), meterRegistry);
+
+        assertTrue(stronger.upgradeEncoding(legacy));
+        assertFalse(passwordEncoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void calibrate_staysWithinBounds(){
+        assertEquals(4, BoundedPasswordEncoder.calibrate(Duration.ZERO, 4, 6));
+        assertEquals(6, BoundedPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6));
+    }
+
+    private static void await(CountDownLatch latch){
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
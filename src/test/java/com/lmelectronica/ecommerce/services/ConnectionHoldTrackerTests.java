@@ -0,0 +1,64 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lmelectronica.ecommerce.config.ConnectionHoldTracker;
+import com.lmelectronica.ecommerce.config.ConnectionOwnerAspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionHoldTrackerTests {
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConnectionHoldTracker tracker;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ConnectionHoldTracker(meterRegistry, 1000, 0);
+    }
+
+    @Test
+    void close_recordsHoldTimeForOwner() throws Exception {
+        Connection tracked = tracker.track("primary", connection);
+
+        tracked.close();
+        tracked.close();
+
+        verify(connection, times(2)).close();
+        assertTrue(tracker.openHolds().isEmpty());
+        assertEquals(1, meterRegistry.get(ConnectionHoldTracker.HOLD_TIMER)
+            .tag("pool", "primary")
+            .tag("method", ConnectionOwnerAspect.UNATTRIBUTED)
+            .timer().count());
+    }
+
+    @Test
+    void scanForLeaks_reportsEachOpenHoldOnce() throws Exception {
+        Connection tracked = tracker.track("replica", connection);
+
+        tracker.scanForLeaks();
+        tracker.scanForLeaks();
+
+        assertEquals(1, tracker.openHolds().size());
+        assertEquals(1.0, meterRegistry.get("datasource.connection.leaks").tag("pool", "replica").counter().count());
+
+        tracked.close();
+        assertTrue(tracker.openHolds().isEmpty());
+    }
+}
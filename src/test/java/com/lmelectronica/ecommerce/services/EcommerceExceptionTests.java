@@ -0,0 +1,42 @@
+package com.lmelectronica.ecommerce.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
+import com.lmelectronica.ecommerce.shared.exceptions.EcommerceException;
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.exceptions.ValidationException;
+
+public class EcommerceExceptionTests {
+
+    @Test
+    void expectedExceptions_captureNoStackTrace(){
+        assertEquals(0, new ResourceNotFoundException("Product", 42L).getStackTrace().length);
+        assertEquals(0, BusinessRuleException.insufficentStock("Monitor", 5, 2).getStackTrace().length);
+    }
+
+    @Test
+    void templatedMessage_formattedOnceWhenRead(){
+        ResourceNotFoundException ex = new ResourceNotFoundException("Product", 42L);
+
+        assertEquals("Product with id '42' not found. ", ex.getMessage());
+        assertSame(ex.getMessage(), ex.getMessage());
+        assertEquals("Validation failed for field 'name': 'blank'", new ValidationException("name", "blank").getMessage());
+        assertEquals("Insufficent stock for 'Monitor'. Requested: 5, Available: 2",
+            BusinessRuleException.insufficentStock("Monitor", 5, 2).getMessage());
+    }
+
+    @Test
+    void wrappedCause_keepsStackTrace(){
+        IllegalStateException cause = new IllegalStateException("boom");
+        EcommerceException ex = new EcommerceException("wrapped", cause) {};
+
+        assertEquals("wrapped", ex.getMessage());
+        assertSame(cause, ex.getCause());
+        assertTrue(ex.getStackTrace().length > 0);
+    }
+}
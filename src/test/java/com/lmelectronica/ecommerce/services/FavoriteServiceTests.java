@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,14 +25,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import com.lmelectronica.ecommerce.favorite.Favorite;
+import com.lmelectronica.ecommerce.favorite.FavoriteListView;
 import com.lmelectronica.ecommerce.favorite.FavoriteRepository;
 import com.lmelectronica.ecommerce.favorite.FavoriteService;
 import com.lmelectronica.ecommerce.product.Product;
 import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.shared.dtos.FavoriteDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.user.Role;
 import com.lmelectronica.ecommerce.user.User;
-import com.lmelectronica.ecommerce.user.UserRepository;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 
 @ExtendWith(MockitoExtension.class)
 public class FavoriteServiceTests {
@@ -43,7 +48,7 @@ public class FavoriteServiceTests {
     private FavoriteRepository favoriteRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserIdentityResolver userIdentityResolver;
 
     @Mock
     private ProductRepository productRepository;
@@ -75,7 +80,7 @@ public class FavoriteServiceTests {
         favoriteSaved.setProduct(product);
         favoriteSaved.setCreatedAt(createdAt);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.reference("username")).thenReturn(user);
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
         when(favoriteRepository.findByUserIdAndProductId(userId, productId)).thenReturn(Optional.empty());
         when(favoriteRepository.save(any(Favorite.class))).thenReturn(favoriteSaved);
@@ -87,17 +92,42 @@ public class FavoriteServiceTests {
         assertEquals(createdAt, result.getCreatedAt());
 
         verify(favoriteRepository).findByUserIdAndProductId(userId, productId);
-        verify(userRepository, atLeast(1)).findByUsername("username");
+        verify(userIdentityResolver).reference("username");
         verify(productRepository, atLeast(1)).findById(productId);
         verify(favoriteRepository).save(any(Favorite.class));
     }
 
+    @Test
+    void createFavorite_alreadyExists_messageNamesIds(){
+        User user = new User();
+        user.setId(1L);
+
+        Product product = new Product();
+        product.setId(2L);
+
+        Favorite existing = new Favorite();
+        existing.setUser(user);
+        existing.setProduct(product);
+
+        FavoriteDTO favoriteDTO = new FavoriteDTO();
+        favoriteDTO.setProductId(2L);
+
+        when(userIdentityResolver.reference("username")).thenReturn(user);
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product));
+        when(favoriteRepository.findByUserIdAndProductId(1L, 2L)).thenReturn(Optional.of(existing));
+
+        BusinessRuleException ex = assertThrows(BusinessRuleException.class, () -> favoriteService.createFavorite("username", favoriteDTO));
+
+        assertEquals("Favorite with userId and productId '1, 2' already exists. ", ex.getMessage());
+        verify(favoriteRepository, never()).save(any(Favorite.class));
+    }
+
     @Test
     void createFavorite_userNotFound_throwException(){
         FavoriteDTO favDTO = new FavoriteDTO();
         favDTO.setProductId(1L);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
+        when(userIdentityResolver.reference("username")).thenThrow(new ResourceNotFoundException("User", "username"));
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> favoriteService.createFavorite("username", favDTO));
 
@@ -116,7 +146,7 @@ public class FavoriteServiceTests {
         User user = new User();
         user.setFirstName("Lucas");
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.reference("username")).thenReturn(user);
         when(productRepository.findById(2L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> favoriteService.createFavorite("username", favDTO));
@@ -128,43 +158,27 @@ public class FavoriteServiceTests {
 
     @Test
     void getFavoritesByUser_validData_returnPageFavoriteDTO() {
-        FavoriteDTO favoriteDTO = new FavoriteDTO();
-        favoriteDTO.setProductId(2L);
-
-        FavoriteDTO favoriteDTO1 = new FavoriteDTO();
-        favoriteDTO1.setProductId(3L);
-
         User user = new User();
         user.setId(1L);
-        Product product = new Product();
-        product.setId(2L);
-        Product product1 = new Product();
-        product1.setId(3L);
-        Favorite favorite = new Favorite();
-        favorite.setUser(user);
-        favorite.setProduct(product);
-
-        Favorite favorite1 = new Favorite();
-        favorite1.setUser(user);
-        favorite1.setProduct(product1);
 
-        List<Favorite> favs = List.of(favorite, favorite1);
+        List<FavoriteListView> favs = List.of(favoriteView(2L), favoriteView(3L));
         Sort sort = Sort.by("id").ascending();
         Pageable pageable = PageRequest.of(0, 10, sort);
-        Page<Favorite> favoritePage = new PageImpl<>(favs, pageable, favs.size());
+        Page<FavoriteListView> favoritePage = new PageImpl<>(favs, pageable, favs.size());
 
-        when(favoriteRepository.findFavoritesByUser(user, pageable)).thenReturn(favoritePage);
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(productRepository.findById(2L)).thenReturn(Optional.of(product));
-        when(productRepository.findById(3L)).thenReturn(Optional.of(product1));
+        when(favoriteRepository.findListingByUserId(1L, pageable)).thenReturn(favoritePage);
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
 
         Page<FavoriteDTO> result = favoriteService.getFavoritesByUser("username", 0, 10, sort);
 
         assertNotNull(result);
         assertThat(result.getContent())
-                    .hasSize(2);
+                    .hasSize(2)
+                    .extracting("productId")
+                    .containsExactly(2L, 3L);
 
-        verify(favoriteRepository).findFavoritesByUser(user, pageable);
+        verify(favoriteRepository).findListingByUserId(1L, pageable);
+        verify(productRepository, never()).findById(any());
     }
 
     @Test
@@ -173,10 +187,10 @@ public class FavoriteServiceTests {
         user.setId(1L);
         Sort sort = Sort.by("id").ascending();
         Pageable pageable = PageRequest.of(0, 10, sort);
-        Page<Favorite> favoritPage = Page.empty();
+        Page<FavoriteListView> favoritPage = Page.empty();
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(favoriteRepository.findFavoritesByUser(user, pageable)).thenReturn(favoritPage);
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
+        when(favoriteRepository.findListingByUserId(1L, pageable)).thenReturn(favoritPage);
 
 
         Page<FavoriteDTO> result = favoriteService.getFavoritesByUser("username", 0, 10, sort);
@@ -199,7 +213,7 @@ public class FavoriteServiceTests {
         fav.setUser(user);
         fav.setProduct(product);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(favoriteRepository.findByUserIdAndProductId(userId, productId)).thenReturn(Optional.of(fav));
 
         favoriteService.removeFavorite("username", productId);
@@ -214,7 +228,7 @@ public class FavoriteServiceTests {
         User user = new User();
         user.setId(1L);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(favoriteRepository.findByUserIdAndProductId(1L, productId)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> favoriteService.removeFavorite("username", productId));
@@ -232,4 +246,15 @@ public class FavoriteServiceTests {
 
         assertEquals(0, result);
     }
+
+    private FavoriteListView favoriteView(Long productId){
+        return new FavoriteListView() {
+            public Long getProductId() { return productId; }
+            public Date getCreatedAt() { return null; }
+        };
+    }
+
+    private static UserIdentity identity(User user){
+        return new UserIdentity(user.getId(), "username", Role.customer);
+    }
 }
@@ -0,0 +1,80 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.lmelectronica.ecommerce.config.MetricsAspect;
+import com.lmelectronica.ecommerce.outbox.OutboxService;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class MetricsAspectTests {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ProductService(productRepository, modelMapper, outboxService, eventPublisher));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MetricsAspect(meterRegistry));
+        productService = factory.getProxy();
+    }
+
+    @Test
+    void serviceCall_success_recordTimer(){
+        when(productRepository.findById(1L)).thenReturn(Optional.of(new Product()));
+        when(modelMapper.map(any(Product.class), eq(ProductDTO.class)))
+            .thenReturn(new ProductDTO());
+
+        productService.getProductById(1L);
+
+        assertEquals(1, meterRegistry.get(MetricsAspect.SERVICE_TIMER)
+            .tags("class", "ProductService", "method", "getProductById", "outcome", "success")
+            .timer().count());
+    }
+
+    @Test
+    void serviceCall_exception_recordErrorOutcome(){
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.getProductById(1L));
+
+        assertEquals(1, meterRegistry.get(MetricsAspect.SERVICE_TIMER)
+            .tags("method", "getProductById", "outcome", "error", "exception", "ResourceNotFoundException")
+            .timer().count());
+    }
+}
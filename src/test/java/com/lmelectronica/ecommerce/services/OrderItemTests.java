@@ -17,12 +17,15 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.lmelectronica.ecommerce.order.Order;
 import com.lmelectronica.ecommerce.order.OrderRepository;
+import com.lmelectronica.ecommerce.order.OrderService;
 import com.lmelectronica.ecommerce.orderItem.OrderItem;
 import com.lmelectronica.ecommerce.orderItem.OrderItemRepository;
 import com.lmelectronica.ecommerce.orderItem.OrderItemService;
+import com.lmelectronica.ecommerce.outbox.OutboxService;
 import com.lmelectronica.ecommerce.product.Product;
 import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.shared.dtos.OrderItemDTO;
@@ -43,6 +46,15 @@ public class OrderItemTests {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Product product;
     private Order order;
     private OrderItem orderItem;
@@ -149,28 +161,33 @@ public class OrderItemTests {
     void getItemById_validData_returnDTO(){
         Long itemId = 1L;
 
-        when(orderItemRepository.findById(itemId)).thenReturn(Optional.of(orderItem));
+        product.setName("Keyboard");
+        when(orderItemRepository.findWithProductById(itemId)).thenReturn(Optional.of(orderItem));
 
         OrderItemDTO itemDTO = orderItemService.getItemById(itemId);
 
         assertNotNull(itemDTO);
         assertEquals(2, itemDTO.getQuantity());
+        assertEquals(200.0, itemDTO.getPrice());
+        assertEquals(400.0, itemDTO.getLineTotal());
+        assertEquals(1L, itemDTO.getProductId());
+        assertEquals("Keyboard", itemDTO.getProductName());
 
-        verify(orderItemRepository).findById(itemId);
+        verify(orderItemRepository).findWithProductById(itemId);
     }
 
     @Test
     void getItemById_itemNotFound_throwException(){
         Long itemId = 1L;
 
-        when(orderItemRepository.findById(itemId)).thenReturn(Optional.empty());
+        when(orderItemRepository.findWithProductById(itemId)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> orderItemService.getItemById(itemId));
 
         String messageExpected = String.format("OrderItem with id '%s' not found. ", itemId);
 
         assertEquals(ex.getMessage(), messageExpected);
-        verify(orderItemRepository).findById(itemId);
+        verify(orderItemRepository).findWithProductById(itemId);
     }
 
     @Test
@@ -186,7 +203,7 @@ public class OrderItemTests {
         orderItemService.updateOrderItem(itemId, itemDTO);
 
         assertEquals(3, orderItem.getQuantity());
-        assertEquals(300.0, orderItem.getPrice());
+        assertEquals(100.0, orderItem.getPrice());
         
         verify(orderItemRepository).findById(itemId);
         verify(orderItemRepository).save(any(OrderItem.class));
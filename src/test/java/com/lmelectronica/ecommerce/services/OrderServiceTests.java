@@ -8,14 +8,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -23,14 +30,25 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import com.lmelectronica.ecommerce.order.Order;
+import com.lmelectronica.ecommerce.order.OrderListView;
 import com.lmelectronica.ecommerce.order.OrderRepository;
 import com.lmelectronica.ecommerce.order.OrderService;
+import com.lmelectronica.ecommerce.order.OrderStatusChangedEvent;
+import com.lmelectronica.ecommerce.order.OrderStatusView;
 import com.lmelectronica.ecommerce.order.Status;
 import com.lmelectronica.ecommerce.orderItem.OrderItem;
+import com.lmelectronica.ecommerce.outbox.OutboxService;
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.shared.dtos.BulkStatusUpdateRequest;
+import com.lmelectronica.ecommerce.shared.dtos.BulkStatusUpdateResponse;
 import com.lmelectronica.ecommerce.shared.dtos.OrderDTO;
+import com.lmelectronica.ecommerce.shared.dtos.OrderDetailDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.BusinessRuleException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.user.Role;
 import com.lmelectronica.ecommerce.user.User;
-import com.lmelectronica.ecommerce.user.UserRepository;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderServiceTests {
@@ -39,20 +57,40 @@ public class OrderServiceTests {
     private OrderService orderService;
 
     @Mock
-    private UserRepository userRepository;
+    private UserIdentityResolver userIdentityResolver;
 
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
     private User user;
     private Order order;
 
+    @BeforeEach
+    void setUp(){
+        user = new User();
+        user.setId(1L);
+        user.setUsername("username");
+        user.setRole(Role.customer);
+
+        order = new Order();
+        order.setId(1L);
+        order.setUser(user);
+        order.setStatus(Status.pending);
+        order.setBillingAddress("Debit Card");
+    }
+
     @Test
     void createOrder_validData_returnDTO(){
         OrderDTO orderDTO = new OrderDTO();
         orderDTO.setBillingAddress("Debit card");
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.reference("username")).thenReturn(user);
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         OrderDTO result = orderService.createOrder(orderDTO, "username");
@@ -69,26 +107,26 @@ public class OrderServiceTests {
         OrderDTO orderDTO = new OrderDTO();
         orderDTO.setBillingAddress("Credit card");
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
+        when(userIdentityResolver.reference("username")).thenThrow(new ResourceNotFoundException("User", "username"));
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> orderService.createOrder(orderDTO, "username"));
 
         String messageExpected = String.format("User with id '%s' not found. ", "username");
 
         assertEquals(ex.getMessage(), messageExpected);
-        verify(userRepository).findByUsername("username");
+        verify(userIdentityResolver).reference("username");
     }
 
 
     @Test
     void getAllOrders_validData_returnPage(){
-        List<Order> orders = List.of(order);
+        List<OrderListView> orders = List.of(orderView(1L, "Debit Card", 1L));
         Sort sort = Sort.by("id").ascending();
         Pageable pageable = PageRequest.of(0, 10, sort);
 
-        Page<Order> orderPage = new PageImpl<>(orders, pageable, orders.size());
+        Page<OrderListView> orderPage = new PageImpl<>(orders, pageable, orders.size());
 
-        when(orderRepository.findAll(pageable)).thenReturn(orderPage);
+        when(orderRepository.findListing(pageable)).thenReturn(orderPage);
 
         Page<OrderDTO> orderDTOs = orderService.getAllOrders(0, 10, sort);
 
@@ -104,30 +142,30 @@ public class OrderServiceTests {
     void getAllOrders_noOrders_returnEmptyPage(){
         Sort sort = Sort.by("id").ascending();
         Pageable pageable = PageRequest.of(0, 10, sort);
-        Page<Order> orderPage = Page.empty(pageable);
+        Page<OrderListView> orderPage = Page.empty(pageable);
 
 
-        when(orderRepository.findAll(pageable)).thenReturn(orderPage);
+        when(orderRepository.findListing(pageable)).thenReturn(orderPage);
 
         Page<OrderDTO> orderDTOs = orderService.getAllOrders(0, 10, sort);
 
         assertNotNull(orderDTOs);
         assertThat(orderDTOs.getContent()).hasSize(0);
 
-        verify(orderRepository).findAll(pageable);
+        verify(orderRepository).findListing(pageable);
     }
 
     @Test
     void getOrdersByUser_validData_returnPage(){
-        List<Order> orders = List.of(order);
         Long userId = 1L;
+        List<OrderListView> orders = List.of(orderView(1L, "Debit Card", userId));
         Sort sort = Sort.by("id").ascending();
         Pageable pageable = PageRequest.of(0, 10, sort);
-        Page<Order> orderPage = new PageImpl<>(orders, pageable, orders.size());
+        Page<OrderListView> orderPage = new PageImpl<>(orders, pageable, orders.size());
 
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(orderRepository.findByUserId(userId, pageable)).thenReturn(orderPage);
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
+        when(orderRepository.findListingByUserId(userId, pageable)).thenReturn(orderPage);
 
         Page<OrderDTO> result = orderService.getOrdersByUser("username", 0, 10, sort);
 
@@ -142,16 +180,55 @@ public class OrderServiceTests {
     void getOrdersByUser_noOrders_returnEmptyPage(){
         Sort sort = Sort.by("id").ascending();
         Pageable pageable = PageRequest.of(0, 10, sort);
-        Page<Order> orderPage = Page.empty(pageable);
+        Page<OrderListView> orderPage = Page.empty(pageable);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(orderRepository.findByUserId(user.getId(), pageable)).thenReturn(orderPage);
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
+        when(orderRepository.findListingByUserId(user.getId(), pageable)).thenReturn(orderPage);
 
         Page<OrderDTO> result = orderService.getOrdersByUser("username", 0, 10, sort);
 
         assertNotNull(result);
         assertThat(result.getContent()).hasSize(0);
-        verify(orderRepository).findByUserId(user.getId(), pageable);
+        verify(orderRepository).findListingByUserId(user.getId(), pageable);
+    }
+
+    @Test
+    void getOrderDetail_owner_returnItemsWithLineTotals(){
+        User owner = new User();
+        owner.setId(7L);
+
+        Product product = new Product();
+        product.setId(3L);
+        product.setName("Monitor");
+
+        Order detailed = new Order();
+        detailed.setId(1L);
+        detailed.setUser(owner);
+        detailed.setStatus(Status.pending);
+
+        OrderItem item = new OrderItem();
+        item.setId(11L);
+        item.setPrice(150.0);
+        item.setQuantity(2);
+        item.setProduct(product);
+        detailed.setItems(List.of(item));
+
+        when(orderRepository.findDetailByIdAndUsername(1L, "username")).thenReturn(Optional.of(detailed));
+
+        OrderDetailDTO result = orderService.getOrderDetail(1L, "username", false);
+
+        assertEquals(7L, result.getUserId());
+        assertThat(result.getItems()).hasSize(1);
+        assertEquals("Monitor", result.getItems().get(0).getProductName());
+        assertEquals(300.0, result.getItems().get(0).getLineTotal());
+        verify(orderRepository, never()).findDetailById(any());
+    }
+
+    @Test
+    void getOrderDetail_notOwner_throwNotFound(){
+        when(orderRepository.findDetailByIdAndUsername(1L, "intruder")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderDetail(1L, "intruder", false));
     }
 
     @Test
@@ -191,7 +268,7 @@ public class OrderServiceTests {
         orderDTO.setBillingAddress("Credit card");
         orderDTO.setStatus(Status.cancelled);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -214,7 +291,7 @@ public class OrderServiceTests {
         orderDTO.setBillingAddress("Fake Street 123");
         orderDTO.setStatus(Status.cancelled);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> orderService.updateOrder(orderDTO, orderId, "username"));
@@ -229,7 +306,7 @@ public class OrderServiceTests {
     void deleteOrder_validDelete(){
         Long orderId = 1L;
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
 
         orderService.deleteOrder("username", orderId);
@@ -242,7 +319,7 @@ public class OrderServiceTests {
     void deleteOrder_orderNotFound_returnException(){
         Long orderId = 1L;
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> orderService.deleteOrder("username", 1L));
@@ -288,4 +365,106 @@ public class OrderServiceTests {
         assertEquals(ex.getMessage(), messageExpected);
         verify(orderRepository).findById(1L);
     }
+
+    @Test
+    void updateOrder_invalidTransition_throwException(){
+        User owner = new User();
+        owner.setId(1L);
+
+        Order delivered = new Order();
+        delivered.setId(1L);
+        delivered.setUser(owner);
+        delivered.setStatus(Status.delivered);
+
+        OrderDTO orderDTO = new OrderDTO();
+        orderDTO.setStatus(Status.cancelled);
+
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(owner));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(delivered));
+
+        assertThrows(BusinessRuleException.class, () -> orderService.updateOrder(orderDTO, 1L, "username"));
+
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateOrder_ownerSetsFulfillmentStatus_throwException(){
+        order.setStatus(Status.preparing);
+
+        OrderDTO orderDTO = new OrderDTO();
+        orderDTO.setStatus(Status.shipped);
+
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        assertThrows(BusinessRuleException.class, () -> orderService.updateOrder(orderDTO, 1L, "username"));
+
+        assertEquals(Status.preparing, order.getStatus());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void bulkUpdateStatus_mixedSources_reportCounts(){
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest(List.of(1L, 2L, 3L, 4L, 5L), Status.shipped);
+
+        when(orderRepository.lockStatusesByIdIn(anyCollection())).thenReturn(List.of(
+            statusView(1L, Status.preparing),
+            statusView(2L, Status.preparing),
+            statusView(3L, Status.shipped),
+            statusView(4L, Status.cancelled)));
+        when(orderRepository.updateStatus(List.of(1L, 2L), Status.preparing, Status.shipped)).thenReturn(2);
+
+        BulkStatusUpdateResponse result = orderService.bulkUpdateStatus(request);
+
+        assertEquals(Status.shipped, result.getTargetStatus());
+        assertEquals(2, result.getMoved());
+        assertEquals(2, result.getSkipped());
+        assertEquals(1, result.getRejected());
+
+        verify(orderRepository).updateStatus(List.of(1L, 2L), Status.preparing, Status.shipped);
+        verify(orderRepository, never()).updateStatus(anyCollection(), eq(Status.cancelled), any());
+        verify(eventPublisher, times(2)).publishEvent(any(OrderStatusChangedEvent.class));
+    }
+
+    @Test
+    void bulkUpdateStatus_fewerRowsUpdated_publishOnlyForMovedOrders(){
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest(List.of(1L, 2L), Status.shipped);
+
+        when(orderRepository.lockStatusesByIdIn(anyCollection())).thenReturn(List.of(
+            statusView(1L, Status.preparing),
+            statusView(2L, Status.preparing)));
+        when(orderRepository.updateStatus(List.of(1L, 2L), Status.preparing, Status.shipped)).thenReturn(1);
+        when(orderRepository.findIdsByIdInAndStatus(List.of(1L, 2L), Status.shipped)).thenReturn(List.of(2L));
+
+        BulkStatusUpdateResponse result = orderService.bulkUpdateStatus(request);
+
+        assertEquals(1, result.getMoved());
+        assertEquals(1, result.getSkipped());
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(2L, event.getValue().getOrderId());
+    }
+
+    private OrderStatusView statusView(Long id, Status status){
+        return new OrderStatusView() {
+            public Long getId() { return id; }
+            public Status getStatus() { return status; }
+        };
+    }
+
+    private OrderListView orderView(Long id, String billingAddress, Long userId){
+        return new OrderListView() {
+            public Long getId() { return id; }
+            public String getBillingAddress() { return billingAddress; }
+            public Status getStatus() { return Status.pending; }
+            public Long getUserId() { return userId; }
+            public double getTotalAmount() { return 0; }
+        };
+    }
+
+    private static UserIdentity identity(User user){
+        return new UserIdentity(user.getId(), "username", Role.customer);
+    }
 }
@@ -0,0 +1,91 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.lmelectronica.ecommerce.outbox.OutboxEvent;
+import com.lmelectronica.ecommerce.outbox.OutboxEventRepository;
+import com.lmelectronica.ecommerce.outbox.OutboxEventType;
+import com.lmelectronica.ecommerce.outbox.OutboxMessage;
+import com.lmelectronica.ecommerce.outbox.OutboxRelay;
+import com.lmelectronica.ecommerce.outbox.OutboxSink;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTests {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        outboxRelay = new OutboxRelay(outboxEventRepository, sink, transactionManager, 2, 10, 24);
+    }
+
+    @Test
+    void relayBatch_pendingEvents_publishInOrderAndMarkPublished() throws Exception {
+        OutboxEvent first = new OutboxEvent(1L, "Order", 10L, OutboxEventType.order_created, "{}", new Date(), null);
+        OutboxEvent second = new OutboxEvent(2L, "Product", 5L, OutboxEventType.stock_changed, "{\"delta\":-1}", new Date(), null);
+
+        when(outboxEventRepository.lockNextBatch(PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+
+        int relayed = outboxRelay.relayBatch();
+
+        assertEquals(2, relayed);
+        verify(sink).publish(List.of(OutboxMessage.from(first), OutboxMessage.from(second)));
+        verify(outboxEventRepository).markPublished(any(), any(Date.class));
+    }
+
+    @Test
+    void poll_sinkFails_leaveEventsUnpublished() throws Exception {
+        OutboxEvent event = new OutboxEvent(1L, "Order", 10L, OutboxEventType.order_created, "{}", new Date(), null);
+
+        when(outboxEventRepository.lockNextBatch(PageRequest.of(0, 2))).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("broker down")).when(sink).publish(any());
+
+        outboxRelay.poll();
+
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any(Date.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void poll_fullBatches_drainUntilPartialBatch() throws Exception {
+        OutboxEvent first = new OutboxEvent(1L, "Order", 10L, OutboxEventType.order_created, "{}", new Date(), null);
+        OutboxEvent second = new OutboxEvent(2L, "Order", 11L, OutboxEventType.order_created, "{}", new Date(), null);
+        OutboxEvent third = new OutboxEvent(3L, "Order", 12L, OutboxEventType.order_created, "{}", new Date(), null);
+
+        when(outboxEventRepository.lockNextBatch(PageRequest.of(0, 2)))
+            .thenReturn(List.of(first, second))
+            .thenReturn(List.of(third));
+
+        outboxRelay.poll();
+
+        verify(sink).publish(List.of(OutboxMessage.from(first), OutboxMessage.from(second)));
+        verify(sink).publish(List.of(OutboxMessage.from(third)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.lmelectronica.ecommerce.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.lmelectronica.ecommerce.product.ProductChangeBroadcaster;
+import com.lmelectronica.ecommerce.product.ProductChangedEvent;
+import com.lmelectronica.ecommerce.product.ProductStreamProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProductChangeBroadcasterTests {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private MeterRegistry meterRegistry;
+
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+
+    private ProductChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp(){
+        ProductStreamProperties properties = new ProductStreamProperties();
+        properties.setSendTimeout(Duration.ofMillis(100));
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+
+        broadcaster = new ProductChangeBroadcaster(properties, executor) {
+            @Override
+            protected SseEmitter newEmitter(long timeoutMillis){
+                return emitters.removeFirst();
+            }
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown(){
+        executor.shutdown();
+    }
+
+    @Test
+    void subscriberThatNeverReads_isDropped_andOthersStillReceive() throws Exception {
+        emitters.add(new NeverReadingEmitter());
+        RecordingEmitter healthy = new RecordingEmitter();
+        emitters.add(healthy);
+        broadcaster.subscribe(List.of(1L));
+        broadcaster.subscribe(List.of(2L));
+
+        // The stuck send takes the only fan-out thread; the healthy one queues behind it.
+        broadcaster.onProductChanged(new ProductChangedEvent(1L, 5, 10.0, new Date()));
+        broadcaster.flush();
+        broadcaster.onProductChanged(new ProductChangedEvent(2L, 7, 20.0, new Date()));
+        broadcaster.flush();
+
+        Thread.sleep(150);
+        broadcaster.dropStalledSubscribers();
+
+        assertTrue(healthy.received.await(2, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(1, meterRegistry.get("product.stream.events").tag("result", "stalled").functionCounter().count());
+    }
+
+    @Test
+    void sendWithinTimeout_notDropped() throws Exception {
+        RecordingEmitter healthy = new RecordingEmitter();
+        emitters.add(healthy);
+        broadcaster.subscribe(List.of(1L));
+
+        broadcaster.onProductChanged(new ProductChangedEvent(1L, 5, 10.0, new Date()));
+        broadcaster.flush();
+        assertTrue(healthy.received.await(2, TimeUnit.SECONDS));
+        Thread.sleep(150);
+        broadcaster.dropStalledSubscribers();
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    // Stands in for a client whose socket buffer is full: the write blocks
+    // until the thread is interrupted.
+    private static class NeverReadingEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("write interrupted");
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder){
+            received.countDown();
+        }
+    }
+}
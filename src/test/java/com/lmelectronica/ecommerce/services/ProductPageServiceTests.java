@@ -0,0 +1,151 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+
+import com.lmelectronica.ecommerce.favorite.FavoriteService;
+import com.lmelectronica.ecommerce.product.ProductPageProperties;
+import com.lmelectronica.ecommerce.product.ProductPageService;
+import com.lmelectronica.ecommerce.product.ProductReadCoalescer;
+import com.lmelectronica.ecommerce.productdetail.ProductDetailService;
+import com.lmelectronica.ecommerce.review.ReviewService;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ProductPageDTO;
+import com.lmelectronica.ecommerce.shared.dtos.RatingSummaryDTO;
+import com.lmelectronica.ecommerce.shared.dtos.ReviewDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.shared.exceptions.ServiceUnavailableException;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductPageServiceTests {
+
+    @Mock
+    private ProductReadCoalescer productReadCoalescer;
+
+    @Mock
+    private ProductDetailService productDetailService;
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private FavoriteService favoriteService;
+
+    private ExecutorService executor;
+
+    private ProductPageProperties properties;
+
+    private ProductPageService productPageService;
+
+    @BeforeEach
+    void setUp(){
+        executor = Executors.newFixedThreadPool(5);
+        properties = new ProductPageProperties();
+        properties.setFavoritesTimeout(Duration.ofMillis(100));
+        productPageService = new ProductPageService(productReadCoalescer, productDetailService,
+            reviewService, favoriteService, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getProductPage_allSectionsAvailable_returnPage(){
+        ProductDTO product = new ProductDTO();
+        product.setName("Samsung Essential S3");
+        ReviewDTO review = new ReviewDTO();
+
+        when(productReadCoalescer.getProductById(1L)).thenReturn(product);
+        when(productDetailService.getDetailByProductId(1L)).thenReturn(List.of());
+        when(reviewService.getReviewsByProductId(eq(1L), eq(0), anyInt(), any(Sort.class)))
+            .thenReturn(new PageImpl<>(List.of(review)));
+        when(reviewService.getRatingSummary(1L)).thenReturn(new RatingSummaryDTO(4.5, 1));
+        when(favoriteService.countFavoritesByProductId(1L)).thenReturn(3L);
+
+        ProductPageDTO page = productPageService.getProductPage(1L);
+
+        assertEquals(product, page.getProduct());
+        assertEquals(1, page.getReviews().size());
+        assertEquals(1L, page.getTotalReviews());
+        assertEquals(4.5, page.getRating().getAverage());
+        assertEquals(3L, page.getFavoriteCount());
+        assertThat(page.getUnavailable()).isEmpty();
+    }
+
+    @Test
+    void getProductPage_sectionFailsOrTimesOut_returnPartialPage(){
+        when(productReadCoalescer.getProductById(1L)).thenReturn(new ProductDTO());
+        when(productDetailService.getDetailByProductId(1L)).thenReturn(List.of());
+        when(reviewService.getReviewsByProductId(eq(1L), eq(0), anyInt(), any(Sort.class)))
+            .thenThrow(new IllegalStateException("reviews down"));
+        when(reviewService.getRatingSummary(1L)).thenReturn(new RatingSummaryDTO(0, 0));
+        when(favoriteService.countFavoritesByProductId(1L)).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return 3L;
+        });
+
+        ProductPageDTO page = productPageService.getProductPage(1L);
+
+        assertThat(page.getUnavailable()).containsExactlyInAnyOrder("reviews", "favoriteCount");
+        assertThat(page.getReviews()).isNull();
+        assertThat(page.getFavoriteCount()).isNull();
+        assertThat(page.getRating()).isNotNull();
+    }
+
+    @Test
+    void getProductPage_productTimesOut_throwUnavailable_andInterruptLoad() throws Exception {
+        properties.setProductTimeout(Duration.ofMillis(100));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(productReadCoalescer.getProductById(1L)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new ProductDTO();
+        });
+
+        assertThrows(ServiceUnavailableException.class, () -> productPageService.getProductPage(1L));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getProductPage_poolFull_throwUnavailable(){
+        productPageService = new ProductPageService(productReadCoalescer, productDetailService,
+            reviewService, favoriteService, task -> { throw new RejectedExecutionException(); }, properties);
+
+        assertThrows(ServiceUnavailableException.class, () -> productPageService.getProductPage(1L));
+    }
+
+    @Test
+    void getProductPage_productNotFound_throwException(){
+        when(productReadCoalescer.getProductById(1L)).thenThrow(new ResourceNotFoundException("Product", 1L));
+
+        assertThrows(ResourceNotFoundException.class, () -> productPageService.getProductPage(1L));
+    }
+}
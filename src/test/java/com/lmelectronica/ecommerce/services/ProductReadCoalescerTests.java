@@ -0,0 +1,97 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lmelectronica.ecommerce.product.ProductReadCoalescer;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductReadCoalescerTests {
+
+    @Mock
+    private ProductService productService;
+
+    private ProductReadCoalescer productReadCoalescer;
+
+    @BeforeEach
+    void setUp(){
+        productReadCoalescer = new ProductReadCoalescer(productService, 60_000, 100);
+    }
+
+    @Test
+    void getProductById_concurrentRequests_shareOneLoad() throws Exception {
+        int callers = 8;
+        ProductDTO product = new ProductDTO();
+        CountDownLatch release = new CountDownLatch(1);
+        when(productService.getProductById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return product;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<ProductDTO>> results = new ArrayList<>();
+            for(int i = 0; i < callers; i++){
+                results.add(executor.submit(() -> productReadCoalescer.getProductById(1L)));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while(productReadCoalescer.getCoalescedLoads() < callers - 1 && System.currentTimeMillis() < deadline){
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for(Future<ProductDTO> result : results){
+                assertSame(product, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(productService, times(1)).getProductById(1L);
+        assertEquals(1, productReadCoalescer.getExecutedLoads());
+        assertEquals(callers - 1, productReadCoalescer.getCoalescedLoads());
+    }
+
+    @Test
+    void getProductById_cachedUntilEvicted(){
+        when(productService.getProductById(1L)).thenReturn(new ProductDTO());
+
+        productReadCoalescer.getProductById(1L);
+        productReadCoalescer.getProductById(1L);
+        productReadCoalescer.evict(1L);
+        productReadCoalescer.getProductById(1L);
+
+        verify(productService, times(2)).getProductById(1L);
+        assertEquals(1, productReadCoalescer.getCacheHits());
+    }
+
+    @Test
+    void getProductById_productNotFound_notCached(){
+        when(productService.getProductById(1L)).thenThrow(new ResourceNotFoundException("Product", 1L));
+
+        assertThrows(ResourceNotFoundException.class, () -> productReadCoalescer.getProductById(1L));
+        assertThrows(ResourceNotFoundException.class, () -> productReadCoalescer.getProductById(1L));
+
+        verify(productService, times(2)).getProductById(1L);
+    }
+}
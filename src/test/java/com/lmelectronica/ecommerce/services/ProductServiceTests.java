@@ -1,5 +1,6 @@
 package com.lmelectronica.ecommerce.services;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,16 +14,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import com.lmelectronica.ecommerce.outbox.OutboxService;
 import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductChangedEvent;
+import com.lmelectronica.ecommerce.product.ProductListView;
 import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.product.ProductService;
 import com.lmelectronica.ecommerce.shared.dtos.ProductDTO;
@@ -42,6 +48,12 @@ public class ProductServiceTests {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void createProduct_validData_returnProductDTO(){
         Product product = new Product();
@@ -160,39 +172,15 @@ public class ProductServiceTests {
 
     @Test
     void getAllProducts_validData_returnPageProductDTO(){
-        Product product1 = new Product();
-        product1.setName("Samsung Essential S3");
-        product1.setPrice(149.99);
-        product1.setStock(5);
-        product1.setDescription("32 Inches");
-
-        Product product2 = new Product();
-        product2.setName("Monitor Deco");
-        product2.setPrice(243.99);
-        product2.setStock(20);
-        product2.setDescription("27 Inches");
-
-        List<Product> productList = List.of(product1, product2);
-
-        ProductDTO dto1 = new ProductDTO();
-        dto1.setName("Samsung Essential E3");
-        dto1.setPrice(149.99);
-        dto1.setStock(5);
-        dto1.setDescription("32 Inches");
-
-        ProductDTO dto2 = new ProductDTO();
-        dto2.setName("Monitor Deco");
-        dto2.setPrice(243.99);
-        dto2.setStock(20);
-        dto2.setDescription("27 Inches");
+        List<ProductListView> productList = List.of(
+            productView("Samsung Essential E3", 149.99, 5, "32 Inches"),
+            productView("Monitor Deco", 243.99, 20, "27 Inches"));
 
         Sort sort = Sort.by("id").ascending();
         PageRequest pageable = PageRequest.of(0, 10, sort);
-        Page<Product> productPage = new PageImpl<>(productList, pageable, productList.size());
+        Page<ProductListView> productPage = new PageImpl<>(productList, pageable, productList.size());
 
-        when(productRepository.findAll(pageable)).thenReturn(productPage);
-        when(modelMapper.map(product1, ProductDTO.class)).thenReturn(dto1);
-        when(modelMapper.map(product2, ProductDTO.class)).thenReturn(dto2);
+        when(productRepository.findListing(pageable)).thenReturn(productPage);
 
         Page<ProductDTO> result = productService.getAllProducts(0, 10, sort);
 
@@ -201,16 +189,18 @@ public class ProductServiceTests {
                     .hasSize(2)
                     .extracting("name")
                     .contains("Samsung Essential E3", "Monitor Deco");
+        verify(modelMapper, never()).map(any(), eq(ProductDTO.class));
     }
     
+
     @Test
     void getAllProducts_emptyList_returnEmptyPage() {
         Sort sort = Sort.by("id").ascending();
         PageRequest pageable = PageRequest.of(0, 10, sort);
-        Page<Product> productPage = Page.empty();
+        Page<ProductListView> productPage = Page.empty();
 
 
-        when(productRepository.findAll(pageable)).thenReturn(productPage);
+        when(productRepository.findListing(pageable)).thenReturn(productPage);
 
         Page<ProductDTO> result = productService.getAllProducts(0, 10, sort);
 
@@ -239,6 +229,7 @@ public class ProductServiceTests {
         assertEquals(25, existingProduct.getStock());
         
         verify(productRepository).save(existingProduct);
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
     }
 
     @Test
@@ -283,5 +274,14 @@ public class ProductServiceTests {
 
         assertEquals(ex.getMessage(), messageExpected);
     }
-}
 
+    private ProductListView productView(String name, Double price, Integer stock, String description){
+        return new ProductListView() {
+            public String getName() { return name; }
+            public Double getPrice() { return price; }
+            public Integer getStock() { return stock; }
+            public Date getCreatedAt() { return null; }
+            public String getDescription() { return description; }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.lmelectronica.ecommerce.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.lmelectronica.ecommerce.ratelimit.RateLimitProperties;
+import com.lmelectronica.ecommerce.ratelimit.RateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RateLimiterTests {
+
+    private MeterRegistry meterRegistry;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp(){
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(2);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_capacityExhausted_returnWaitAndCountRejection(){
+        RateLimitProperties.Limit limit = limit(2, 1);
+
+        assertEquals(0, rateLimiter.tryAcquire("auth", "ip", "10.0.0.1", limit));
+        assertEquals(0, rateLimiter.tryAcquire("auth", "ip", "10.0.0.1", limit));
+        assertTrue(rateLimiter.tryAcquire("auth", "ip", "10.0.0.1", limit) > 0);
+
+        assertEquals(0, rateLimiter.tryAcquire("auth", "ip", "10.0.0.2", limit));
+        assertEquals(1, meterRegistry.get("app.ratelimit.rejected").tag("group", "auth").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    void tryAcquire_disabledLimitOrMissingKey_alwaysAllowed(){
+        for(int i = 0; i < 10; i++){
+            assertEquals(0, rateLimiter.tryAcquire("auth", "user", "username", limit(0, 0)));
+            assertEquals(0, rateLimiter.tryAcquire("auth", "user", null, limit(1, 1)));
+        }
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    void tryAcquire_tableFull_newKeysShareOverflowBucket(){
+        RateLimitProperties.Limit limit = limit(1, 1);
+        rateLimiter.tryAcquire("auth", "ip", "10.0.0.1", limit);
+        rateLimiter.tryAcquire("auth", "ip", "10.0.0.2", limit);
+
+        assertEquals(0, rateLimiter.tryAcquire("auth", "ip", "10.0.0.3", limit));
+        assertTrue(rateLimiter.tryAcquire("auth", "ip", "10.0.0.4", limit) > 0);
+        assertEquals(3, rateLimiter.size());
+    }
+
+    @Test
+    void purgeFullBuckets_dropsRefilledBuckets() throws InterruptedException {
+        rateLimiter.tryAcquire("auth", "ip", "10.0.0.1", limit(5, 1));
+        rateLimiter.tryAcquire("auth", "ip", "10.0.0.2", limit(1, 60_000));
+        Thread.sleep(20);
+
+        rateLimiter.purgeFullBuckets();
+
+        assertEquals(1, rateLimiter.size());
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity, double refillPerMinute){
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerMinute(refillPerMinute);
+        return limit;
+    }
+}
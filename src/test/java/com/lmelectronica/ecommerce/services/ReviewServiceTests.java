@@ -24,14 +24,17 @@ import org.springframework.data.domain.Sort;
 import com.lmelectronica.ecommerce.product.Product;
 import com.lmelectronica.ecommerce.product.ProductRepository;
 import com.lmelectronica.ecommerce.review.Review;
+import com.lmelectronica.ecommerce.review.ReviewListView;
 import com.lmelectronica.ecommerce.review.ReviewRepository;
 import com.lmelectronica.ecommerce.review.ReviewService;
 import com.lmelectronica.ecommerce.shared.dtos.ReviewCreateDTO;
 import com.lmelectronica.ecommerce.shared.dtos.ReviewDTO;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateReviewRequest;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.user.Role;
 import com.lmelectronica.ecommerce.user.User;
-import com.lmelectronica.ecommerce.user.UserRepository;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 
 @ExtendWith(MockitoExtension.class)
 public class ReviewServiceTests {
@@ -43,7 +46,7 @@ public class ReviewServiceTests {
     private ReviewRepository reviewRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserIdentityResolver userIdentityResolver;
 
     @Mock
     private ProductRepository productRepository;
@@ -74,7 +77,7 @@ public class ReviewServiceTests {
         savedReview.setProduct(product);
         savedReview.setUser(user);
 
-        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(userIdentityResolver.reference(username)).thenReturn(user);
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
         when(reviewRepository.save(any(Review.class))).thenReturn(savedReview);
 
@@ -100,7 +103,7 @@ public class ReviewServiceTests {
         ReviewCreateDTO dto = new ReviewCreateDTO( "¡Very cool!", 9.0);
 
         User user = new User(); user.setId(userId);
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.reference("username")).thenReturn(user);
         when(productRepository.findById(productId)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> reviewService.createReview(productId, "username", dto));
@@ -116,7 +119,7 @@ public class ReviewServiceTests {
 
         ReviewCreateDTO dto = new ReviewCreateDTO("Bad", 2.5);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.empty());
+        when(userIdentityResolver.reference("username")).thenThrow(new ResourceNotFoundException("User", "username"));
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> reviewService.createReview(productId, "username", dto));
         
@@ -170,31 +173,14 @@ public class ReviewServiceTests {
         User user = new User();
         user.setId(1L);
 
-        Product product = new Product();
-        product.setName("Mouse gamer");
-
-        Review review1 = new Review();
-        review1.setComment("Bad");
-        review1.setRating(1);
-        review1.setId(2L);
-        review1.setUser(user);
-        review1.setProduct(product);
-
-        Review review2 = new Review();
-        review2.setComment("Nice");
-        review2.setRating(7);
-        review2.setId(5L);
-        review2.setUser(user);
-        review2.setProduct(product);
-
-        List<Review> reviews = List.of(review1, review2);
+        List<ReviewListView> reviews = List.of(reviewView("Bad", 1, 3L, 1L), reviewView("Nice", 7, 3L, 1L));
         
         Sort sort = Sort.by("id").ascending();
         PageRequest pageable = PageRequest.of(0, 10, sort);
-        Page<Review> reviewPage = new PageImpl<>(reviews, pageable, reviews.size());
+        Page<ReviewListView> reviewPage = new PageImpl<>(reviews, pageable, reviews.size());
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(reviewRepository.findByUser(user, pageable)).thenReturn(reviewPage);
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
+        when(reviewRepository.findListingByUserId(1L, pageable)).thenReturn(reviewPage);
 
         Page<ReviewDTO> reviewsDTO = reviewService.getReviewsByUser("username", 0, 10, sort);
 
@@ -212,49 +198,28 @@ public class ReviewServiceTests {
 
         Sort sort = Sort.by("id").ascending();
         PageRequest pageable = PageRequest.of(0, 10, sort);
-        Page<Review> reviewPage = Page.empty();
+        Page<ReviewListView> reviewPage = Page.empty();
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
-        when(reviewRepository.findByUser(user, pageable)).thenReturn(reviewPage);
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
+        when(reviewRepository.findListingByUserId(1L, pageable)).thenReturn(reviewPage);
 
         Page<ReviewDTO> reviews = reviewService.getReviewsByUser("username", 0, 10, sort);
 
         assertNotNull(reviews);
-        verify(reviewRepository).findByUser(user, pageable);
+        verify(reviewRepository).findListingByUserId(1L, pageable);
     }
 
     @Test
     void getReviewsByProductId(){
         Long productId = 1L;
-        User user = new User();
-        user.setId(1L);
-
-        Product product = new Product();
-        product.setId(productId);
-        product.setName("Mouse gamer");
-
-        Review review1 = new Review();
-        review1.setComment("Bad");
-        review1.setRating(1);
-        review1.setId(2L);
-        review1.setProduct(product);
-        review1.setUser(user);
-        
-
-        Review review2 = new Review();
-        review2.setComment("Nice");
-        review2.setRating(7);
-        review2.setId(5L);
-        review2.setProduct(product);
-        review2.setUser(user);
 
-        List<Review> reviews = List.of(review1, review2);
+        List<ReviewListView> reviews = List.of(reviewView("Bad", 1, productId, 1L), reviewView("Nice", 7, productId, 1L));
         
         Sort sort = Sort.by("id").ascending();
         PageRequest pageable = PageRequest.of(0, 10, sort);
-        Page<Review> reviewPage = new PageImpl<>(reviews, pageable, reviews.size());
+        Page<ReviewListView> reviewPage = new PageImpl<>(reviews, pageable, reviews.size());
 
-        when(reviewRepository.findByProductId(productId, pageable)).thenReturn(reviewPage);
+        when(reviewRepository.findListingByProductId(productId, pageable)).thenReturn(reviewPage);
 
         Page<ReviewDTO> reviewsDTO = reviewService.getReviewsByProductId(productId, 0, 10, sort);
 
@@ -263,26 +228,27 @@ public class ReviewServiceTests {
                     .hasSize(2)
                     .extracting("comment")
                     .contains("Bad", "Nice");
+        assertThat(reviewsDTO.getContent())
+                    .extracting("productId")
+                    .containsOnly(productId);
     }
 
     @Test
     void getReviewByProductId_reviewNotExists_returnListEmpty(){
         Long productId = 1L;
-        User user = new User();
-        user.setId(1L);
 
         Sort sort = Sort.by("id").ascending();
         PageRequest pageable = PageRequest.of(0, 10, sort);
-        Page<Review> reviewPage = Page.empty();
+        Page<ReviewListView> reviewPage = Page.empty();
 
-        when(reviewRepository.findByProductId(productId, pageable)).thenReturn(reviewPage);
+        when(reviewRepository.findListingByProductId(productId, pageable)).thenReturn(reviewPage);
 
         Page<ReviewDTO> reviews = reviewService.getReviewsByProductId(productId, 0, 10, sort);
 
         assertNotNull(reviews);
         assertThat(reviews.getContent()).hasSize(0);
         
-        verify(reviewRepository).findByProductId(productId, pageable);
+        verify(reviewRepository).findListingByProductId(productId, pageable);
     }
 
     @Test
@@ -300,7 +266,7 @@ public class ReviewServiceTests {
         reviewExisting.setRating(2.5);
         reviewExisting.setUser(user);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(reviewRepository.findById(id)).thenReturn(Optional.of(reviewExisting));
 
         reviewService.updateReview("username", id, request);
@@ -318,7 +284,7 @@ public class ReviewServiceTests {
         UpdateReviewRequest request = new UpdateReviewRequest();
         request.setComment("Nice");
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(reviewRepository.findById(id)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> reviewService.updateReview("username", id, request));
@@ -339,7 +305,7 @@ public class ReviewServiceTests {
         review.setRating(10);
         review.setUser(user);
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(reviewRepository.findById(id)).thenReturn(Optional.of(review));
 
         reviewService.deleteReview("username", id);
@@ -353,7 +319,7 @@ public class ReviewServiceTests {
         User user = new User();
         user.setId(1L);  
 
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        when(userIdentityResolver.resolve("username")).thenReturn(identity(user));
         when(reviewRepository.findById(id)).thenReturn(Optional.empty());
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> reviewService.deleteReview("username", id));
@@ -363,4 +329,17 @@ public class ReviewServiceTests {
         assertEquals(ex.getMessage(), messageExpected);
 
     }
+
+    private ReviewListView reviewView(String comment, double rating, Long productId, Long userId){
+        return new ReviewListView() {
+            public String getComment() { return comment; }
+            public double getRating() { return rating; }
+            public Long getProductId() { return productId; }
+            public Long getUserId() { return userId; }
+        };
+    }
+
+    private static UserIdentity identity(User user){
+        return new UserIdentity(user.getId(), "username", Role.customer);
+    }
 }
@@ -0,0 +1,77 @@
+package com.lmelectronica.ecommerce.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable;
+import com.lmelectronica.ecommerce.config.RouteAuthorizationTable.Access;
+
+import jakarta.servlet.DispatcherType;
+
+public class RouteAuthorizationTableTests {
+
+    private final RouteAuthorizationTable table = new RouteAuthorizationTable();
+
+    @Test
+    void lookup_defaultRoutes_matchPreviousRules(){
+        assertEquals(Access.DOCUMENTATION, table.lookup("/swagger-ui/index.html"));
+        assertEquals(Access.DOCUMENTATION, table.lookup("/swagger-ui.html"));
+        assertEquals(Access.DOCUMENTATION, table.lookup("/v3/api-docs"));
+        assertEquals(Access.DOCUMENTATION, table.lookup("/v3/api-docs/swagger-config"));
+        assertEquals(Access.PERMIT_ALL, table.lookup("/api/auth/login"));
+        assertEquals(Access.PERMIT_ALL, table.lookup("/actuator/health"));
+        assertEquals(Access.PERMIT_ALL, table.lookup("/actuator/health/liveness"));
+        assertEquals(Access.ADMIN, table.lookup("/actuator/metrics"));
+        assertEquals(Access.ADMIN, table.lookup("/actuator/prometheus"));
+        assertEquals(Access.AUTHENTICATED, table.lookup("/products/42"));
+        assertEquals(Access.AUTHENTICATED, table.lookup("/users/profile"));
+        assertEquals(Access.AUTHENTICATED, table.lookup("/"));
+    }
+
+    @Test
+    void lookup_exactBeatsPrefix_longestPrefixWins(){
+        Map<String, Access> routes = new LinkedHashMap<>();
+        routes.put("/api/**", Access.AUTHENTICATED);
+        routes.put("/api/public/**", Access.PERMIT_ALL);
+        routes.put("/api/public/admin", Access.AUTHENTICATED);
+        RouteAuthorizationTable custom = new RouteAuthorizationTable(routes);
+
+        assertEquals(Access.PERMIT_ALL, custom.lookup("/api/public/items/1"));
+        assertEquals(Access.AUTHENTICATED, custom.lookup("/api/public/admin"));
+        assertEquals(Access.PERMIT_ALL, custom.lookup("/api/public/admin/x"));
+        assertEquals(Access.AUTHENTICATED, custom.lookup("/api/private"));
+        assertEquals(Access.AUTHENTICATED, custom.lookup("/apiextra"));
+    }
+
+    @Test
+    void matcher_stripsContextPath_andCachesLookupOnRequest(){
+        RequestMatcher permitted = table.matcher(Access.DOCUMENTATION, Access.PERMIT_ALL);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/shop/api/auth/login");
+        request.setContextPath("/shop");
+
+        assertTrue(permitted.matches(request));
+        assertTrue(permitted.matches(request));
+        assertFalse(permitted.matches(new MockHttpServletRequest("GET", "/orders")));
+    }
+
+    @Test
+    void lookup_dispatchToOtherPath_notAnsweredFromCache(){
+        RequestMatcher permitted = table.matcher(Access.DOCUMENTATION, Access.PERMIT_ALL);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/login");
+
+        assertTrue(permitted.matches(request));
+
+        request.setDispatcherType(DispatcherType.FORWARD);
+        request.setRequestURI("/orders");
+        assertFalse(permitted.matches(request));
+        assertEquals(Access.AUTHENTICATED, table.lookup(request));
+    }
+}
@@ -0,0 +1,96 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.lmelectronica.ecommerce.auth.TokenRevocationList;
+import com.lmelectronica.ecommerce.config.JwtService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TokenRevocationListTests {
+
+    private JwtService jwtService;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp(){
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "SECRET_KEY", "test_secret_key_that_is_long_enough_for_hmac256");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 120_000L);
+        tokenRevocationList = new TokenRevocationList(1000, 120_000L);
+    }
+
+    @Test
+    void isRevoked_unrevokedTokens_answeredByFilter(){
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationList.bindTo(meterRegistry);
+        tokenRevocationList.revoke("some-other-id", Instant.now().plusSeconds(60));
+
+        for(int i = 0; i < 100; i++){
+            assertFalse(tokenRevocationList.isRevoked(decode(jwtService.generateAccessToken("username", jwtService.newTokenId()))));
+        }
+
+        double exact = meterRegistry.get("app.security.revocation.checks").tag("path", "exact").functionCounter().count();
+        assertTrue(exact < 30, "exact lookups: " + exact);
+    }
+
+    @Test
+    void revoke_secondTimeReturnsFalse(){
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertTrue(tokenRevocationList.revoke("jti-1", expiresAt));
+        assertFalse(tokenRevocationList.revoke("jti-1", expiresAt));
+        assertTrue(tokenRevocationList.isRevoked("jti-1"));
+    }
+
+    @Test
+    void revokeFamily_rejectsAccessAndRefreshTokens(){
+        String family = jwtService.newTokenId();
+        DecodedJWT access = decode(jwtService.generateAccessToken("username", family));
+        DecodedJWT refresh = decode(jwtService.generateRefreshToken("username", family));
+
+        tokenRevocationList.revoke(family, Instant.now().plusSeconds(60));
+
+        assertTrue(tokenRevocationList.isRevoked(access));
+        assertTrue(tokenRevocationList.isRevoked(refresh));
+        assertFalse(tokenRevocationList.isRevoked(decode(jwtService.generateAccessToken("username", jwtService.newTokenId()))));
+    }
+
+    @Test
+    void revokeSubject_rejectsTokensIssuedBefore(){
+        DecodedJWT issuedBefore = decode(jwtService.generateToken("deleted"));
+
+        tokenRevocationList.revokeSubject("deleted");
+
+        assertTrue(tokenRevocationList.isRevoked(issuedBefore));
+        assertFalse(tokenRevocationList.isRevoked(decode(jwtService.generateToken("other"))));
+    }
+
+    @Test
+    void purgeExpired_dropsExpiredEntries(){
+        tokenRevocationList.revoke("expired", Instant.now().minusSeconds(1));
+        tokenRevocationList.revoke("live", Instant.now().plusSeconds(60));
+
+        tokenRevocationList.purgeExpired();
+
+        assertEquals(1, tokenRevocationList.size());
+        assertFalse(tokenRevocationList.isRevoked("expired"));
+        assertTrue(tokenRevocationList.isRevoked("live"));
+    }
+
+    private static DecodedJWT decode(String token){
+        return JWT.decode(token);
+    }
+}
@@ -0,0 +1,95 @@
+package com.lmelectronica.ecommerce.services;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
+import com.lmelectronica.ecommerce.user.Role;
+import com.lmelectronica.ecommerce.user.UserIdentity;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
+import com.lmelectronica.ecommerce.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserIdentityResolverTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserIdentityResolver userIdentityResolver;
+
+    @BeforeEach
+    void setUp(){
+        userIdentityResolver = new UserIdentityResolver(userRepository, 60_000, 2);
+    }
+
+    @Test
+    void resolve_cachedUntilEvicted(){
+        UserIdentity identity = new UserIdentity(1L, "username", Role.customer);
+        when(userRepository.findIdentityByUsername("username")).thenReturn(Optional.of(identity));
+
+        assertEquals(identity, userIdentityResolver.resolve("username"));
+        assertEquals(identity, userIdentityResolver.resolve("username"));
+        verify(userRepository, times(1)).findIdentityByUsername("username");
+
+        userIdentityResolver.evict("username");
+        userIdentityResolver.resolve("username");
+        verify(userRepository, times(2)).findIdentityByUsername("username");
+    }
+
+    @Test
+    void resolve_evictedWhileLoading_notCached(){
+        UserIdentity identity = new UserIdentity(1L, "username", Role.customer);
+        when(userRepository.findIdentityByUsername("username")).thenAnswer(invocation -> {
+            userIdentityResolver.evict("username");
+            return Optional.of(identity);
+        });
+
+        userIdentityResolver.resolve("username");
+        userIdentityResolver.resolve("username");
+
+        verify(userRepository, times(2)).findIdentityByUsername("username");
+    }
+
+    @Test
+    void resolve_userNotFound_notCached(){
+        when(userRepository.findIdentityByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> userIdentityResolver.resolve("ghost"));
+        assertThrows(ResourceNotFoundException.class, () -> userIdentityResolver.resolve("ghost"));
+
+        verify(userRepository, times(2)).findIdentityByUsername("ghost");
+    }
+
+    @Test
+    void resolve_cacheFull_loadsWithoutCaching(){
+        for(String username : new String[] { "a", "b", "c" }){
+            when(userRepository.findIdentityByUsername(username))
+                .thenReturn(Optional.of(new UserIdentity(1L, username, Role.customer)));
+            userIdentityResolver.resolve(username);
+        }
+
+        userIdentityResolver.resolve("c");
+
+        verify(userRepository, times(2)).findIdentityByUsername("c");
+    }
+
+    @Test
+    void reference_usesResolvedId(){
+        when(userRepository.findIdentityByUsername("username"))
+            .thenReturn(Optional.of(new UserIdentity(7L, "username", Role.admin)));
+
+        userIdentityResolver.reference("username");
+
+        verify(userRepository).getReferenceById(7L);
+    }
+}
@@ -9,12 +9,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.lmelectronica.ecommerce.auth.TokenRevocationList;
 import com.lmelectronica.ecommerce.shared.dtos.ChangePasswordRequest;
 import com.lmelectronica.ecommerce.shared.dtos.DeleteRequest;
 import com.lmelectronica.ecommerce.shared.dtos.UpdateUserDTO;
@@ -22,6 +24,7 @@ import com.lmelectronica.ecommerce.shared.dtos.UserDTO;
 import com.lmelectronica.ecommerce.shared.exceptions.AuthorizationException;
 import com.lmelectronica.ecommerce.shared.exceptions.ResourceNotFoundException;
 import com.lmelectronica.ecommerce.user.User;
+import com.lmelectronica.ecommerce.user.UserIdentityResolver;
 import com.lmelectronica.ecommerce.user.UserRepository;
 import com.lmelectronica.ecommerce.user.UserService;
 
@@ -35,11 +38,17 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserIdentityResolver userIdentityResolver;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @Mock
     private ModelMapper modelmapper;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
 
     @Test
     void updatePassword_validationPassword(){
@@ -100,6 +109,7 @@ public class UserServiceTest {
 
         assertEquals("Richard", result.getFirstName());
         assertEquals("Lison", result.getLastName());     
+        verify(userIdentityResolver).evict("username");
     }
     
     @Test
@@ -136,6 +146,8 @@ public class UserServiceTest {
         userService.deleteAccount("username", request);
         
         verify(userRepository).delete(user);
+        verify(userIdentityResolver).evict("username");
+        verify(tokenRevocationList).revokeSubject("username");
     }
     
     @Test
@@ -169,6 +181,7 @@ public class UserServiceTest {
         AuthorizationException ex = assertThrows(AuthorizationException.class, () -> userService.deleteAccount("username", request));
 
         assertEquals(ex.getMessage(), "Invalid username or password. ");
+        verify(userIdentityResolver, never()).evict(any());
     }
 }
 
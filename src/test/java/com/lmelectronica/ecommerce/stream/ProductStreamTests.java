@@ -0,0 +1,120 @@
+package com.lmelectronica.ecommerce.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lmelectronica.ecommerce.product.Product;
+import com.lmelectronica.ecommerce.product.ProductChangeBroadcaster;
+import com.lmelectronica.ecommerce.product.ProductRepository;
+import com.lmelectronica.ecommerce.product.ProductService;
+import com.lmelectronica.ecommerce.product.ProductStreamProperties;
+import com.lmelectronica.ecommerce.shared.dtos.UpdateProductRequest;
+
+@SpringBootTest(properties = {
+    "product-stream.flush-interval-ms=3600000",
+    "product-stream.heartbeat-interval-ms=3600000",
+    "product-stream.max-products-per-subscription=3"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+public class ProductStreamTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductChangeBroadcaster productChangeBroadcaster;
+
+    @Autowired
+    private ProductStreamProperties productStreamProperties;
+
+    @Test
+    void subscriber_receivesLatestCommittedChange_onlyForWatchedProducts() throws Exception {
+        Product watched = productRepository.save(product("Streamed " + System.nanoTime()));
+        Product other = productRepository.save(product("Unwatched " + System.nanoTime()));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/products/stream")
+                .param("ids", watched.getId().toString())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+
+        updatePrice(watched.getId(), 20.0);
+        updatePrice(watched.getId(), 30.0);
+        updatePrice(other.getId(), 40.0);
+        productChangeBroadcaster.flush();
+
+        String body = awaitEvent(response);
+        assertThat(body.split("event:" + ProductChangeBroadcaster.EVENT_NAME, -1)).hasSize(2);
+        assertThat(body).contains("\"productId\":" + watched.getId(), "\"price\":30.0")
+            .doesNotContain("\"productId\":" + other.getId());
+    }
+
+    @Test
+    void subscribe_invalidIds_rejected() throws Exception {
+        mockMvc.perform(get("/products/stream").param("ids", "")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/stream").param("ids", "1,2,3,4")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void subscribe_subscriberLimitReached_tooManyRequests() throws Exception {
+        int limit = productStreamProperties.getMaxSubscribers();
+        productStreamProperties.setMaxSubscribers(0);
+        try {
+            mockMvc.perform(get("/products/stream").param("ids", "1")
+                    .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            productStreamProperties.setMaxSubscribers(limit);
+        }
+    }
+
+    private void updatePrice(Long id, double price){
+        UpdateProductRequest request = new UpdateProductRequest();
+        request.setPrice(price);
+        productService.updateProduct(id, request);
+    }
+
+    private static String awaitEvent(MockHttpServletResponse response) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while(!response.getContentAsString().contains("\n\n") && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+        return response.getContentAsString();
+    }
+
+    private static Product product(String name){
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(10.0);
+        product.setStock(3);
+        product.setCreatedAt(new Date());
+        return product;
+    }
+}
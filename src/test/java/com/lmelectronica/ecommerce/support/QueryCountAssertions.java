@@ -0,0 +1,42 @@
+package com.lmelectronica.ecommerce.support;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import com.lmelectronica.ecommerce.shared.querycount.QueryCount;
+import com.lmelectronica.ecommerce.shared.querycount.QueryCountHolder;
+
+/**
+ * Fails a test when the wrapped call issues more SQL statements than
+ * allowed, listing the statement shapes so an N+1 is obvious from the
+ * failure message.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(int max, ThrowingSupplier<T> action) throws Throwable {
+        QueryCount count = QueryCountHolder.start();
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            QueryCountHolder.stop(count);
+        }
+        if (count.getTotal() > max) {
+            fail("Expected at most " + max + " SQL statements but got " + count.getTotal() + ":\n" + describe(count));
+        }
+        return result;
+    }
+
+    private static String describe(QueryCount count) {
+        return count.getShapes().entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .map(entry -> String.format("  %3dx %s", entry.getValue(), entry.getKey()))
+            .collect(Collectors.joining("\n"));
+    }
+}